@@ -0,0 +1,209 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.AgeBand;
+import com.reliaquest.api.model.TitleStatistics;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Per-title headcount and salary figures and the age histogram of an {@link EmployeeColumns} version, computed in one
+ * pass over its title, salary and age columns without creating any employee. Titles are already dictionary codes, so
+ * grouping is indexing into arrays rather than hashing strings. Tables larger than {@value #ROWS_PER_TASK} rows are
+ * split into ranges that the common fork/join pool counts in parallel and then merges. Instances are immutable.
+ */
+public final class EmployeeAggregates {
+
+    /**
+     * Rows counted by one task without splitting further; smaller tables are counted on the caller's thread.
+     */
+    static final int ROWS_PER_TASK = 1 << 16;
+
+    private static final int BAND_WIDTH = 10;
+
+    /**
+     * Ages are banded by decade; the last band is open-ended.
+     */
+    private static final int BANDS = 10;
+
+    private static final Comparator<TitleStatistics> BY_HEADCOUNT = Comparator.comparingInt(TitleStatistics::headcount)
+            .reversed()
+            .thenComparing(TitleStatistics::employeeTitle, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final List<TitleStatistics> titles;
+
+    private final List<AgeBand> ageBands;
+
+    private EmployeeAggregates(List<TitleStatistics> titles, List<AgeBand> ageBands) {
+        this.titles = titles;
+        this.ageBands = ageBands;
+    }
+
+    public static EmployeeAggregates of(EmployeeColumns columns) {
+        Counts counts = columns.size() <= ROWS_PER_TASK
+                ? new Counts(columns).add(columns, 0, columns.size())
+                : ForkJoinPool.commonPool().invoke(new Aggregation(columns, 0, columns.size()));
+        return new EmployeeAggregates(counts.titles(columns), counts.ageBands());
+    }
+
+    /**
+     * @return one entry per title, largest headcount first, then by title; employees without a title are grouped
+     *     under a null title
+     */
+    public List<TitleStatistics> titles() {
+        return titles;
+    }
+
+    /**
+     * @return the decades from the youngest to the oldest employee's, empty ones in between included, followed by an
+     *     {@code unknown} band if any employee has no age
+     */
+    public List<AgeBand> ageBands() {
+        return ageBands;
+    }
+
+    /**
+     * Counts of one range of rows. Group 0 holds employees without a title and group {@code code + 1} the title with
+     * that dictionary code.
+     */
+    private static final class Counts {
+
+        private final int[] headcounts;
+
+        private final int[] salaried;
+
+        private final long[] salarySums;
+
+        private final int[] maxSalaries;
+
+        private final int[] bands = new int[BANDS];
+
+        private int unknownAges;
+
+        Counts(EmployeeColumns columns) {
+            int groups = columns.titleCodeLimit() + 1;
+            headcounts = new int[groups];
+            salaried = new int[groups];
+            salarySums = new long[groups];
+            maxSalaries = new int[groups];
+            Arrays.fill(maxSalaries, EmployeeColumns.NO_VALUE);
+        }
+
+        Counts add(EmployeeColumns columns, int from, int to) {
+            for (int row = from; row < to; row++) {
+                if (!columns.isLive(row)) {
+                    continue;
+                }
+                int group = columns.titleCode(row) + 1;
+                headcounts[group]++;
+                int salary = columns.salary(row);
+                if (salary != EmployeeColumns.NO_VALUE) {
+                    salaried[group]++;
+                    salarySums[group] += salary;
+                    maxSalaries[group] = Math.max(maxSalaries[group], salary);
+                }
+                int age = columns.age(row);
+                if (age == EmployeeColumns.NO_VALUE) {
+                    unknownAges++;
+                } else {
+                    bands[Math.min(Math.max(age, 0) / BAND_WIDTH, BANDS - 1)]++;
+                }
+            }
+            return this;
+        }
+
+        Counts merge(Counts other) {
+            for (int group = 0; group < headcounts.length; group++) {
+                headcounts[group] += other.headcounts[group];
+                salaried[group] += other.salaried[group];
+                salarySums[group] += other.salarySums[group];
+                maxSalaries[group] = Math.max(maxSalaries[group], other.maxSalaries[group]);
+            }
+            for (int band = 0; band < BANDS; band++) {
+                bands[band] += other.bands[band];
+            }
+            unknownAges += other.unknownAges;
+            return this;
+        }
+
+        List<TitleStatistics> titles(EmployeeColumns columns) {
+            List<TitleStatistics> titles = new ArrayList<>();
+            for (int group = 0; group < headcounts.length; group++) {
+                if (headcounts[group] == 0) {
+                    continue;
+                }
+                boolean hasSalaries = salaried[group] > 0;
+                titles.add(new TitleStatistics(
+                        group > 0 ? columns.titleOfCode(group - 1) : null,
+                        headcounts[group],
+                        hasSalaries ? average(salarySums[group], salaried[group]) : null,
+                        hasSalaries ? maxSalaries[group] : null));
+            }
+            titles.sort(BY_HEADCOUNT);
+            return List.copyOf(titles);
+        }
+
+        List<AgeBand> ageBands() {
+            int lowest = 0;
+            while (lowest < BANDS && bands[lowest] == 0) {
+                lowest++;
+            }
+            int highest = BANDS - 1;
+            while (highest >= lowest && bands[highest] == 0) {
+                highest--;
+            }
+            List<AgeBand> ageBands = new ArrayList<>();
+            for (int band = lowest; band <= highest; band++) {
+                int minAge = band * BAND_WIDTH;
+                Integer maxAge = band < BANDS - 1 ? minAge + BAND_WIDTH - 1 : null;
+                String label = maxAge != null ? minAge + "-" + maxAge : minAge + "+";
+                ageBands.add(new AgeBand(label, minAge, maxAge, bands[band]));
+            }
+            if (unknownAges > 0) {
+                ageBands.add(new AgeBand("unknown", null, null, unknownAges));
+            }
+            return List.copyOf(ageBands);
+        }
+
+        private static double average(long sum, int count) {
+            return BigDecimal.valueOf(sum)
+                    .divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP)
+                    .doubleValue();
+        }
+    }
+
+    /**
+     * Splits a range of rows in halves until each is at most {@value #ROWS_PER_TASK} rows, then merges their counts.
+     */
+    private static final class Aggregation extends RecursiveTask<Counts> {
+
+        private final EmployeeColumns columns;
+
+        private final int from;
+
+        private final int to;
+
+        Aggregation(EmployeeColumns columns, int from, int to) {
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Counts compute() {
+            if (to - from <= ROWS_PER_TASK) {
+                return new Counts(columns).add(columns, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            Aggregation left = new Aggregation(columns, from, middle);
+            left.fork();
+            Counts right = new Aggregation(columns, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+
+/**
+ * A create or delete to apply to an {@link EmployeeSnapshot} in place of reloading it.
+ *
+ * @param employee the created employee; {@code null} for deletes, which only need the ID
+ */
+public record EmployeeChange(Type type, String id, Employee employee) {
+
+    public static EmployeeChange created(Employee employee) {
+        return new EmployeeChange(Type.CREATED, employee.getId(), employee);
+    }
+
+    public static EmployeeChange deleted(String id) {
+        return new EmployeeChange(Type.DELETED, id, null);
+    }
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,590 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+/**
+ * The employee list in columnar form. Salaries and ages are {@code int} columns, titles are codes into a dictionary
+ * of the distinct titles (there are far fewer titles than employees), and emails are stored as their local part plus
+ * a code into a dictionary of domains, so the {@code @company.com} every email shares is held once. IDs in the
+ * canonical UUID form the mock API issues are two {@code long}s, as in the mock server's snapshot files.
+ * {@link Employee} objects are only created when a row is read through {@link #employee} or one of the list views,
+ * i.e. when a response is serialized.
+ *
+ * <p>Instances are immutable. {@link #with} and {@link #without} return a new version that shares the column arrays
+ * with this one: an appended row is written past the end of every older version, and a deleted row is only marked in
+ * a copied bitmap. Once a quarter of the rows are deleted they are compacted away, which renumbers the rows and
+ * starts a new {@link #layout}. Readers never lock; versions must only be derived by one writer at a time.
+ */
+public final class EmployeeColumns {
+
+    /**
+     * Stands in for a null salary or age.
+     */
+    static final int NO_VALUE = Integer.MIN_VALUE;
+
+    private static final int NO_CODE = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private static final int MIN_DELETED_TO_COMPACT = 64;
+
+    private final Storage storage;
+
+    private final int size;
+
+    private final long[] deleted;
+
+    private final int deletedCount;
+
+    private final long[] idHigh;
+
+    private final long[] idLow;
+
+    /**
+     * IDs that are not stored as {@link #idHigh} and {@link #idLow}; a row with neither has no ID.
+     */
+    private final String[] otherIds;
+
+    private final String[] names;
+
+    private final int[] salaries;
+
+    private final int[] ages;
+
+    private final int[] titleCodes;
+
+    private final String[] titles;
+
+    private final String[] emailLocalParts;
+
+    private final int[] emailDomainCodes;
+
+    private final String[] emailDomains;
+
+    private final int[] idSlots;
+
+    /**
+     * Live row numbers, computed on first use when rows have been deleted.
+     */
+    private volatile int[] liveRows;
+
+    private EmployeeColumns(Storage storage, long[] deleted, int deletedCount) {
+        this.storage = storage;
+        this.size = storage.used;
+        this.deleted = deleted;
+        this.deletedCount = deletedCount;
+        this.idHigh = storage.idHigh;
+        this.idLow = storage.idLow;
+        this.otherIds = storage.otherIds;
+        this.names = storage.names;
+        this.salaries = storage.salaries;
+        this.ages = storage.ages;
+        this.titleCodes = storage.titleCodes;
+        this.titles = storage.titles.values;
+        this.emailLocalParts = storage.emailLocalParts;
+        this.emailDomainCodes = storage.emailDomainCodes;
+        this.emailDomains = storage.emailDomains.values;
+        this.idSlots = storage.idSlots;
+    }
+
+    public static EmployeeColumns of(Collection<Employee> employees) {
+        Storage storage = new Storage(0, employees.size());
+        employees.forEach(storage::append);
+        return new EmployeeColumns(storage, new long[0], 0);
+    }
+
+    /**
+     * @return this table plus {@code employee}, or this table if its ID is null or already present
+     */
+    public EmployeeColumns with(Employee employee) {
+        if (employee.getId() == null || find(employee.getId()) >= 0) {
+            return this;
+        }
+        // Only the newest version may write past its end; anything older first gets storage of its own.
+        EmployeeColumns base = storage.used == size ? this : compacted();
+        base.storage.append(employee);
+        return new EmployeeColumns(base.storage, base.deleted, base.deletedCount);
+    }
+
+    /**
+     * @return this table without the employee with {@code id}, or this table if there is none
+     */
+    public EmployeeColumns without(String id) {
+        int row = find(id);
+        if (row < 0) {
+            return this;
+        }
+        long[] marked = Arrays.copyOf(deleted, Math.max(deleted.length, (size + 63) >>> 6));
+        marked[row >>> 6] |= 1L << row;
+        EmployeeColumns next = new EmployeeColumns(storage, marked, deletedCount + 1);
+        return next.deletedCount >= MIN_DELETED_TO_COMPACT && next.deletedCount > next.size / 4
+                ? next.compacted()
+                : next;
+    }
+
+    /**
+     * @return number of employees
+     */
+    public int count() {
+        return size - deletedCount;
+    }
+
+    /**
+     * @return number of rows, deleted ones included; row numbers run from 0 to this
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Changes whenever rows are renumbered, so row numbers taken from one version are only valid in another with the
+     * same layout.
+     */
+    int layout() {
+        return storage.layout;
+    }
+
+    boolean isLive(int row) {
+        if (deletedCount == 0) {
+            return true;
+        }
+        int word = row >>> 6;
+        return word >= deleted.length || (deleted[word] & (1L << row)) == 0;
+    }
+
+    String id(int row) {
+        if (otherIds[row] != null) {
+            return otherIds[row];
+        }
+        return hasId(row) ? new UUID(idHigh[row], idLow[row]).toString() : null;
+    }
+
+    private boolean hasId(int row) {
+        return otherIds[row] != null || (idHigh[row] | idLow[row]) != 0;
+    }
+
+    String name(int row) {
+        return names[row];
+    }
+
+    /**
+     * @return salary of {@code row}, or {@link #NO_VALUE}
+     */
+    int salary(int row) {
+        return salaries[row];
+    }
+
+    /**
+     * @return age of {@code row}, or {@link #NO_VALUE}
+     */
+    int age(int row) {
+        return ages[row];
+    }
+
+    /**
+     * @return dictionary code of the title of {@code row}, from 0 to {@link #titleCodeLimit}, or -1 without a title
+     */
+    int titleCode(int row) {
+        return titleCodes[row];
+    }
+
+    /**
+     * @return an upper bound on the title codes of this version
+     */
+    int titleCodeLimit() {
+        return titles.length;
+    }
+
+    String titleOfCode(int code) {
+        return titles[code];
+    }
+
+    /**
+     * @return row of the employee with {@code id}, or -1
+     */
+    int find(String id) {
+        boolean uuid = isStoredAsUuid(id);
+        long high = uuid ? hexBits(id, 0, 18) : 0;
+        long low = uuid ? hexBits(id, 19, 36) : 0;
+        int hash = uuid ? uuidHash(high, low) : id.hashCode();
+        int mask = idSlots.length - 1;
+        for (int slot = slot(hash, mask), entry; (entry = idSlots[slot]) != 0; slot = (slot + 1) & mask) {
+            int row = entry - 1;
+            // Slots are shared with newer versions, which may have added rows this one does not have.
+            if (row < size
+                    && isLive(row)
+                    && (uuid
+                            ? otherIds[row] == null && idHigh[row] == high && idLow[row] == low
+                            : id.equals(otherIds[row]))) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    Employee employee(int row) {
+        return new Employee(id(row), names[row], boxed(salaries[row]), boxed(ages[row]), title(row), email(row));
+    }
+
+    /**
+     * @return all employees in row order, created as they are read
+     */
+    public List<Employee> employees() {
+        return new Rows(this, liveRows());
+    }
+
+    /**
+     * @param rows live row numbers
+     * @return the employees in those rows, in that order, created as they are read
+     */
+    List<Employee> employees(int[] rows) {
+        return new Rows(this, rows);
+    }
+
+    /**
+     * @return number of employees that differ between this table and {@code other}, counting additions, removals and
+     *     modifications
+     */
+    int countDifferences(EmployeeColumns other) {
+        int differences = 0;
+        for (int row = 0; row < other.size; row++) {
+            if (!other.isLive(row)) {
+                continue;
+            }
+            String id = other.id(row);
+            int own = id != null ? find(id) : -1;
+            if (own < 0 || !sameEmployee(own, other, row)) {
+                differences++;
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            if (isLive(row) && hasId(row) && other.find(id(row)) < 0) {
+                differences++;
+            }
+        }
+        return differences;
+    }
+
+    private boolean sameEmployee(int row, EmployeeColumns other, int otherRow) {
+        return salaries[row] == other.salaries[otherRow]
+                && ages[row] == other.ages[otherRow]
+                && equal(names[row], other.names[otherRow])
+                && equal(title(row), other.title(otherRow))
+                && equal(emailLocalParts[row], other.emailLocalParts[otherRow])
+                && equal(emailDomain(row), other.emailDomain(otherRow));
+    }
+
+    private String title(int row) {
+        return titleCodes[row] != NO_CODE ? titles[titleCodes[row]] : null;
+    }
+
+    private String emailDomain(int row) {
+        return emailDomainCodes[row] != NO_CODE ? emailDomains[emailDomainCodes[row]] : null;
+    }
+
+    private String email(int row) {
+        String localPart = emailLocalParts[row];
+        String domain = emailDomain(row);
+        return localPart != null && domain != null ? localPart + '@' + domain : localPart;
+    }
+
+    private int[] liveRows() {
+        if (deletedCount == 0) {
+            return null;
+        }
+        int[] rows = liveRows;
+        if (rows == null) {
+            rows = new int[count()];
+            for (int row = 0, next = 0; row < size; row++) {
+                if (isLive(row)) {
+                    rows[next++] = row;
+                }
+            }
+            liveRows = rows;
+        }
+        return rows;
+    }
+
+    private EmployeeColumns compacted() {
+        Storage compacted = new Storage(storage.layout + 1, count());
+        for (int row = 0; row < size; row++) {
+            if (isLive(row)) {
+                compacted.append(this, row);
+            }
+        }
+        return new EmployeeColumns(compacted, new long[0], 0);
+    }
+
+    /**
+     * @return true for the canonical lowercase UUID form, which reads back unchanged from its two longs; the nil UUID
+     *     is left as a string, since all-zero bits mean no ID
+     */
+    private static boolean isStoredAsUuid(String id) {
+        if (id.length() != 36) {
+            return false;
+        }
+        boolean nil = true;
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            } else {
+                nil &= c == '0';
+            }
+        }
+        return !nil;
+    }
+
+    private static long hexBits(String id, int from, int to) {
+        long bits = 0;
+        for (int i = from; i < to; i++) {
+            char c = id.charAt(i);
+            if (c != '-') {
+                bits = bits << 4 | Character.digit(c, 16);
+            }
+        }
+        return bits;
+    }
+
+    private static int uuidHash(long high, long low) {
+        return Long.hashCode(high ^ low * 0x9E3779B97F4A7C15L);
+    }
+
+    private static int slot(int hash, int mask) {
+        int spread = hash * 0x9E3779B9;
+        return (spread ^ (spread >>> 16)) & mask;
+    }
+
+    private static Integer boxed(int value) {
+        return value != NO_VALUE ? value : null;
+    }
+
+    private static int unboxed(Integer value) {
+        return value != null ? value : NO_VALUE;
+    }
+
+    private static boolean equal(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    /**
+     * Column arrays with room to append, shared by every version of one layout and only written by the writer.
+     */
+    private static final class Storage {
+
+        private final int layout;
+
+        private final Dictionary titles = new Dictionary();
+
+        private final Dictionary emailDomains = new Dictionary();
+
+        private int used;
+
+        private long[] idHigh;
+
+        private long[] idLow;
+
+        private String[] otherIds;
+
+        private String[] names;
+
+        private int[] salaries;
+
+        private int[] ages;
+
+        private int[] titleCodes;
+
+        private String[] emailLocalParts;
+
+        private int[] emailDomainCodes;
+
+        /**
+         * Open-addressing table from ID to row + 1, with 0 marking an empty slot; kept at most half full.
+         */
+        private int[] idSlots;
+
+        Storage(int layout, int capacity) {
+            this.layout = layout;
+            allocate(Math.max(capacity, MIN_CAPACITY));
+        }
+
+        void append(Employee employee) {
+            int row = nextRow();
+            String id = employee.getId();
+            if (id != null && isStoredAsUuid(id)) {
+                idHigh[row] = hexBits(id, 0, 18);
+                idLow[row] = hexBits(id, 19, 36);
+            } else {
+                otherIds[row] = id;
+            }
+            names[row] = employee.getEmployeeName();
+            salaries[row] = unboxed(employee.getEmployeeSalary());
+            ages[row] = unboxed(employee.getEmployeeAge());
+            titleCodes[row] = titles.encode(employee.getEmployeeTitle());
+            String email = employee.getEmployeeEmail();
+            int at = email != null ? email.lastIndexOf('@') : -1;
+            emailLocalParts[row] = at >= 0 ? email.substring(0, at) : email;
+            emailDomainCodes[row] = at >= 0 ? emailDomains.encode(email.substring(at + 1)) : NO_CODE;
+            publish(row);
+        }
+
+        void append(EmployeeColumns from, int fromRow) {
+            int row = nextRow();
+            idHigh[row] = from.idHigh[fromRow];
+            idLow[row] = from.idLow[fromRow];
+            otherIds[row] = from.otherIds[fromRow];
+            names[row] = from.names[fromRow];
+            salaries[row] = from.salaries[fromRow];
+            ages[row] = from.ages[fromRow];
+            titleCodes[row] = titles.encode(from.title(fromRow));
+            emailLocalParts[row] = from.emailLocalParts[fromRow];
+            emailDomainCodes[row] = emailDomains.encode(from.emailDomain(fromRow));
+            publish(row);
+        }
+
+        private int nextRow() {
+            if (used == names.length) {
+                grow(used * 2);
+            }
+            return used;
+        }
+
+        /**
+         * Makes the row findable by ID and part of the next version. Readers of older versions may see the slot but
+         * ignore rows past their own size.
+         */
+        private void publish(int row) {
+            if (hasId(row)) {
+                insertId(idSlots, row);
+            }
+            used = row + 1;
+        }
+
+        private void allocate(int capacity) {
+            idHigh = new long[capacity];
+            idLow = new long[capacity];
+            otherIds = new String[capacity];
+            names = new String[capacity];
+            salaries = new int[capacity];
+            ages = new int[capacity];
+            titleCodes = new int[capacity];
+            emailLocalParts = new String[capacity];
+            emailDomainCodes = new int[capacity];
+            idSlots = new int[slotsFor(capacity)];
+        }
+
+        /**
+         * Copies into new arrays rather than growing in place, so versions that captured the old arrays keep reading
+         * consistent ones.
+         */
+        private void grow(int capacity) {
+            idHigh = Arrays.copyOf(idHigh, capacity);
+            idLow = Arrays.copyOf(idLow, capacity);
+            otherIds = Arrays.copyOf(otherIds, capacity);
+            names = Arrays.copyOf(names, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            titleCodes = Arrays.copyOf(titleCodes, capacity);
+            emailLocalParts = Arrays.copyOf(emailLocalParts, capacity);
+            emailDomainCodes = Arrays.copyOf(emailDomainCodes, capacity);
+            int[] slots = new int[slotsFor(capacity)];
+            for (int row = 0; row < used; row++) {
+                if (hasId(row)) {
+                    insertId(slots, row);
+                }
+            }
+            idSlots = slots;
+        }
+
+        private boolean hasId(int row) {
+            return otherIds[row] != null || (idHigh[row] | idLow[row]) != 0;
+        }
+
+        private void insertId(int[] slots, int row) {
+            int mask = slots.length - 1;
+            int hash = otherIds[row] != null ? otherIds[row].hashCode() : uuidHash(idHigh[row], idLow[row]);
+            int slot = slot(hash, mask);
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = row + 1;
+        }
+
+        private static int slotsFor(int capacity) {
+            return Integer.highestOneBit(capacity) << 2;
+        }
+    }
+
+    /**
+     * Distinct strings of a column, appended to as new ones are seen; codes are positions in {@link #values}.
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        private String[] values = new String[MIN_CAPACITY];
+
+        int encode(String value) {
+            if (value == null) {
+                return NO_CODE;
+            }
+            Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            int next = codes.size();
+            if (next == values.length) {
+                values = Arrays.copyOf(values, next * 2);
+            }
+            values[next] = value;
+            codes.put(value, next);
+            return next;
+        }
+    }
+
+    /**
+     * Employees of a table, or of selected rows of it, created as they are read.
+     */
+    private static final class Rows extends AbstractList<Employee> implements RandomAccess {
+
+        private final EmployeeColumns columns;
+
+        /**
+         * Row numbers in list order, or null for all rows of a table without deletions.
+         */
+        private final int[] rows;
+
+        Rows(EmployeeColumns columns, int[] rows) {
+            this.columns = columns;
+            this.rows = rows;
+        }
+
+        @Override
+        public Employee get(int index) {
+            if (rows != null) {
+                return columns.employee(rows[index]);
+            }
+            if (index < 0 || index >= columns.size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return columns.employee(index);
+        }
+
+        @Override
+        public int size() {
+            return rows != null ? rows.length : columns.size;
+        }
+    }
+}
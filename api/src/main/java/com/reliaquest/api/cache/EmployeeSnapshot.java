@@ -0,0 +1,225 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The full employee list as last loaded from the mock API, held as {@link EmployeeColumns}, together with the name
+ * and salary indexes built over them. Writes made through this API are applied to all of them via {@link #apply}, so
+ * the snapshot stays current without a reload. Readers never lock; {@link #apply} must only be called by one writer at
+ * a time.
+ */
+public class EmployeeSnapshot {
+
+    /**
+     * Random per process, so ETags handed out before a restart never match a snapshot loaded after it.
+     */
+    private static final String EPOCH = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private static final AtomicLong GENERATIONS = new AtomicLong();
+
+    private final long generation = GENERATIONS.incrementAndGet();
+
+    /**
+     * Bumped after each applied change, once every view reflects it.
+     */
+    private volatile long version;
+
+    private volatile Instant loadedAt;
+
+    private volatile Table table;
+
+    private volatile Aggregated aggregated;
+
+    private final SingleFlight<Long, EmployeeAggregates> aggregations = new SingleFlight<>();
+
+    /**
+     * A columns version and the indexes that cover it, published together so readers never see one without the
+     * others.
+     */
+    private record Table(EmployeeColumns columns, NameIndex names, SalaryIndex salaries) {
+
+        /**
+         * @param names a name index to keep if it still covers {@code columns}, or null
+         * @param salaries a salary index that is up to date with {@code columns} to keep if it still covers them, or
+         *     null
+         */
+        static Table of(EmployeeColumns columns, NameIndex names, SalaryIndex salaries) {
+            return new Table(
+                    columns,
+                    names != null && names.covers(columns) ? names : NameIndex.of(columns),
+                    salaries != null && salaries.covers(columns) ? salaries : SalaryIndex.of(columns));
+        }
+    }
+
+    /**
+     * Aggregates memoized for the version they were computed at.
+     */
+    private record Aggregated(long version, EmployeeAggregates aggregates) {}
+
+    private EmployeeSnapshot(List<Employee> employees, Instant loadedAt) {
+        this.loadedAt = loadedAt;
+        this.table = Table.of(EmployeeColumns.of(employees), null, null);
+    }
+
+    public static EmployeeSnapshot of(List<Employee> employees, Instant loadedAt) {
+        return new EmployeeSnapshot(employees, loadedAt);
+    }
+
+    /**
+     * @return the employees, created from the columns as the list is read
+     */
+    public List<Employee> employees() {
+        return table.columns().employees();
+    }
+
+    public EmployeeColumns columns() {
+        return table.columns();
+    }
+
+    public SalaryIndex salaries() {
+        return table.salaries();
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public Optional<Employee> findById(String id) {
+        EmployeeColumns columns = table.columns();
+        int row = columns.find(id);
+        return row >= 0 ? Optional.of(columns.employee(row)) : Optional.empty();
+    }
+
+    /**
+     * @return employees whose name contains {@code query}, ignoring case, in snapshot order followed by employees
+     *     created since
+     */
+    public List<Employee> searchByName(String query) {
+        Table current = table;
+        return current.columns().employees(current.names().search(query, current.columns()));
+    }
+
+    /**
+     * @return the {@code limit} highest earners, highest first; equal salaries in snapshot order
+     */
+    public List<Employee> topEarners(int limit) {
+        Table current = table;
+        return current.columns().employees(current.salaries().topRows(limit));
+    }
+
+    /**
+     * @return names of the {@code limit} highest earners, highest first, without creating the employees
+     */
+    public List<String> topEarnerNames(int limit) {
+        Table current = table;
+        int[] rows = current.salaries().topRows(limit);
+        List<String> names = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            names.add(current.columns().name(row));
+        }
+        return names;
+    }
+
+    /**
+     * @return employees earning from {@code min} to {@code max}, highest first; equal salaries in snapshot order
+     */
+    public List<Employee> employeesEarningBetween(int min, int max) {
+        Table current = table;
+        return current.columns().employees(current.salaries().rowsBetween(min, max));
+    }
+
+    /**
+     * Computed at most once per version: repeated calls between two changes return the same result, and concurrent
+     * callers that find it missing share one computation.
+     */
+    public EmployeeAggregates aggregates() {
+        // Version first, like the ETag: the aggregates can then only be newer than the version they are memoized for.
+        long current = version;
+        Aggregated memo = aggregated;
+        if (memo != null && memo.version() == current) {
+            return memo.aggregates();
+        }
+        return aggregations.load(current, () -> {
+            EmployeeAggregates computed = EmployeeAggregates.of(table.columns());
+            aggregated = new Aggregated(current, computed);
+            return computed;
+        });
+    }
+
+    public Duration age(Instant now) {
+        return Duration.between(loadedAt, now);
+    }
+
+    /**
+     * Identifies this snapshot's content for conditional requests. Read it before reading the content: the content
+     * can then only be newer than the tag, so a matching tag never hides a change.
+     */
+    public String etag() {
+        return "\"%s-%d-%d\"".formatted(EPOCH, generation, version);
+    }
+
+    /**
+     * Records that the upstream confirmed this snapshot's list is unchanged, which makes it as fresh as a reload.
+     */
+    void revalidated(Instant now) {
+        loadedAt = now;
+    }
+
+    /**
+     * Applies a change to the list and all derived views. Changes are idempotent: creating an ID that is already
+     * present, or deleting one that is not, does nothing.
+     *
+     * @return true if the snapshot changed
+     */
+    boolean apply(EmployeeChange change) {
+        if (!applyToViews(change)) {
+            return false;
+        }
+        version++;
+        return true;
+    }
+
+    /**
+     * @return number of employees that differ between this snapshot and {@code other}, counting additions, removals
+     * and modifications
+     */
+    int countDifferences(EmployeeSnapshot other) {
+        return table.columns().countDifferences(other.table.columns());
+    }
+
+    private boolean applyToViews(EmployeeChange change) {
+        Table current = table;
+        EmployeeColumns before = current.columns();
+        EmployeeColumns columns;
+        SalaryIndex salaries = null;
+        switch (change.type()) {
+            case CREATED -> {
+                columns = before.with(change.employee());
+                if (columns != before && columns.layout() == before.layout()) {
+                    salaries = current.salaries().with(columns, columns.size() - 1);
+                }
+            }
+            case DELETED -> {
+                int row = before.find(change.id());
+                columns = before.without(change.id());
+                if (columns != before && columns.layout() == before.layout()) {
+                    salaries = current.salaries().without(before, row);
+                }
+            }
+            default -> throw new IllegalStateException("Unknown change type: " + change.type());
+        }
+        if (columns == before) {
+            return false;
+        }
+        // A renumbered layout leaves the salary index null, so it is rebuilt over the new rows.
+        table = Table.of(columns, current.names(), salaries);
+        return true;
+    }
+}
@@ -0,0 +1,499 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.ChangeCursor;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.EmployeeListResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChangeEvent;
+import com.reliaquest.api.model.EmployeeChangeFeed;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the last good {@link EmployeeSnapshot} and reloads it in the background before it gets old, so readers never
+ * wait on the mock API once a snapshot exists. A failed refresh keeps the previous snapshot in service, flagged as
+ * stale, until a later refresh succeeds or it exceeds the configured max staleness.
+ *
+ * <p>Writes made through this API are applied to the snapshot directly ({@link #apply}) rather than invalidating it.
+ * Each full reload doubles as a reconciliation pass: it replaces the patched snapshot with the upstream's view and
+ * records how far the two had drifted apart.
+ *
+ * <p>Once a list response has told us where the upstream's change feed stands, refreshes only fetch and apply the
+ * changes since then. The full list is reloaded (conditionally, see {@link EmployeeListResponse}) only when the
+ * upstream no longer retains those changes. Neither an incremental sync nor a 304 compares the snapshot with the
+ * upstream, so {@link #reconcile} also reloads the full list unconditionally on a timer of its own.
+ *
+ * <p>Publishes per-view hits and misses ({@code employee.cache.gets}), the time callers waited on a miss
+ * ({@code employee.cache.load}) and how each refresh went ({@code employee.snapshot.refresh}).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeSnapshotStore implements MeterBinder {
+
+    private static final String SNAPSHOT_KEY = "all";
+
+    private final EmployeeApiClient employeeApiClient;
+
+    private final SingleFlight<String, EmployeeSnapshot> snapshotLoads = new SingleFlight<>();
+
+    private final AtomicReference<EmployeeSnapshot> snapshot = new AtomicReference<>();
+
+    private final AtomicLong reconciledDrift = new AtomicLong();
+
+    private final AtomicLong notModifiedRefreshes = new AtomicLong();
+
+    private final AtomicLong incrementalSyncs = new AtomicLong();
+
+    private final AtomicLong fullResyncs = new AtomicLong();
+
+    private final Map<SnapshotView, LongAdder> viewHits = counters();
+
+    private final Map<SnapshotView, LongAdder> viewMisses = counters();
+
+    private volatile MeterRegistry registry;
+
+    /**
+     * Where the upstream's change feed picks up from the current snapshot; null until a list response has said.
+     */
+    private volatile ChangeCursor changeCursor;
+
+    /**
+     * The upstream's tag for the list the current snapshot was loaded from, sent back on the next refresh.
+     */
+    private volatile String upstreamETag;
+
+    /**
+     * Serializes writers against each other and against a reload swapping in a new snapshot.
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * Changes applied while a reload is in flight; the reloaded list may predate them, so they are replayed onto it.
+     */
+    private final List<EmployeeChange> changesDuringReload = new ArrayList<>();
+
+    private boolean reloadInFlight;
+
+    /**
+     * Set when the snapshot is invalidated while a reload is in flight, so that reload's list is not installed.
+     */
+    private boolean invalidatedDuringReload;
+
+    private volatile Instant nextRefreshAt = Instant.EPOCH;
+
+    private volatile Instant lastRefreshFailure;
+
+    @Value("${employee-v1.snapshot.refresh-ahead-enabled:true}")
+    private boolean refreshAheadEnabled;
+
+    @Value("${employee-v1.snapshot.refresh-interval:240000}")
+    private long refreshIntervalMs;
+
+    @Value("${employee-v1.snapshot.refresh-jitter:30000}")
+    private long refreshJitterMs;
+
+    @Value("${employee-v1.snapshot.change-feed-enabled:true}")
+    private boolean changeFeedEnabled;
+
+    @Value("${employee-v1.snapshot.max-staleness:1800000}")
+    private long maxStalenessMs;
+
+    @Value("${employee-v1.snapshot.failure-retry-delay:30000}")
+    private long failureRetryDelayMs;
+
+    @Value("${employee-v1.snapshot.reconcile-enabled:true}")
+    private boolean reconcileEnabled;
+
+    /**
+     * @return the current snapshot, loading it first only if there is none yet or it is older than the max staleness
+     */
+    public EmployeeSnapshot current() {
+        EmployeeSnapshot current = snapshot.get();
+        if (current == null || current.age(Instant.now()).toMillis() > maxStalenessMs) {
+            return load();
+        }
+        return current;
+    }
+
+    /**
+     * {@link #current()} for one of the snapshot's views, counted as a hit if it was served without waiting on the mock
+     * API and as a miss otherwise.
+     */
+    public EmployeeSnapshot current(SnapshotView view) {
+        EmployeeSnapshot existing = snapshot.get();
+        if (existing != null && existing.age(Instant.now()).toMillis() <= maxStalenessMs) {
+            viewHits.get(view).increment();
+            return current();
+        }
+        viewMisses.get(view).increment();
+        long start = System.nanoTime();
+        try {
+            return current();
+        } finally {
+            MeterRegistry metrics = registry;
+            if (metrics != null) {
+                metrics.timer("employee.cache.load", "key", view.tag())
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * @return the ETag of the snapshot held right now, even past its max staleness, or null if none has been loaded
+     *     yet. Never triggers a load, so the read that follows is the one counted and timed as a miss.
+     */
+    public String loadedETag() {
+        EmployeeSnapshot current = snapshot.get();
+        return current != null ? current.etag() : null;
+    }
+
+    /**
+     * Looks an employee up by ID in the current snapshot, which includes employees created through this API. Never
+     * triggers a load.
+     */
+    public Optional<Employee> findLoaded(String id) {
+        EmployeeSnapshot current = snapshot.get();
+        return current != null ? current.findById(id) : Optional.empty();
+    }
+
+    /**
+     * Looks employees up by exact name, ignoring case like the mock API's delete, in the current snapshot. Never
+     * triggers a load.
+     */
+    public List<Employee> findLoadedByName(String name) {
+        EmployeeSnapshot current = snapshot.get();
+        if (current == null) {
+            return List.of();
+        }
+        return current.searchByName(name).stream()
+                .filter(employee -> name.equalsIgnoreCase(employee.getEmployeeName()))
+                .toList();
+    }
+
+    /**
+     * @return true if the snapshot being served is overdue for a refresh or the last refresh attempt failed
+     */
+    public boolean isStale() {
+        EmployeeSnapshot current = snapshot.get();
+        return current != null
+                && (lastRefreshFailure != null || current.age(Instant.now()).toMillis() > refreshIntervalMs);
+    }
+
+    /**
+     * Applies a write that succeeded upstream to the current snapshot. Without a snapshot there is nothing to patch;
+     * the first load will include the write.
+     */
+    public void apply(EmployeeChange change) {
+        writeLock.lock();
+        try {
+            EmployeeSnapshot current = snapshot.get();
+            if (current != null) {
+                current.apply(change);
+            }
+            if (reloadInFlight) {
+                changesDuringReload.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the current snapshot after an upstream write whose effect on it is not known, so the next read reloads the
+     * full list. A reload already in flight may predate the write; its list is handed to the callers waiting on it but
+     * not kept.
+     */
+    public void invalidate() {
+        writeLock.lock();
+        try {
+            snapshot.set(null);
+            invalidatedDuringReload = reloadInFlight;
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Employee snapshot invalidated, reloading on next read");
+    }
+
+    public long getCoalescedLoadCount() {
+        return snapshotLoads.getCoalescedCount();
+    }
+
+    /**
+     * @return number of refreshes the upstream answered with 304, keeping the current snapshot
+     */
+    public long getNotModifiedRefreshCount() {
+        return notModifiedRefreshes.get();
+    }
+
+    /**
+     * @return number of refreshes served by applying the upstream's change feed to the current snapshot
+     */
+    public long getIncrementalSyncCount() {
+        return incrementalSyncs.get();
+    }
+
+    /**
+     * @return number of times the change feed no longer had the changes needed and the full list was reloaded
+     */
+    public long getFullResyncCount() {
+        return fullResyncs.get();
+    }
+
+    /**
+     * @return total number of employees found to differ from the upstream across all reconciliation passes
+     */
+    public long getReconciledDriftCount() {
+        return reconciledDrift.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        for (SnapshotView view : SnapshotView.values()) {
+            FunctionCounter.builder("employee.cache.gets", viewHits.get(view), LongAdder::sum)
+                    .description("Reads of a snapshot view, by whether they had to wait on the mock API")
+                    .tags("key", view.tag(), "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("employee.cache.gets", viewMisses.get(view), LongAdder::sum)
+                    .description("Reads of a snapshot view, by whether they had to wait on the mock API")
+                    .tags("key", view.tag(), "result", "miss")
+                    .register(registry);
+        }
+        FunctionCounter.builder("employee.snapshot.reconciled-drift", reconciledDrift, AtomicLong::get)
+                .description("Employees found to differ from the upstream by full reloads")
+                .register(registry);
+        FunctionCounter.builder("employee.snapshot.coalesced-loads", this, EmployeeSnapshotStore::getCoalescedLoadCount)
+                .description("Snapshot loads served by another caller's in-flight load")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${employee-v1.snapshot.check-interval:1000}")
+    public void refreshIfDue() {
+        if (!refreshAheadEnabled || Instant.now().isBefore(nextRefreshAt)) {
+            return;
+        }
+        try {
+            load();
+        } catch (RuntimeException ex) {
+            log.warn("Employee snapshot refresh failed, serving last good snapshot: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the snapshot with a full, unconditional download of the list, whether or not refreshes use the change
+     * feed. A local write the upstream applied differently, or a change the feed missed, is otherwise never repaired:
+     * incremental syncs only add the upstream's changes and a 304 keeps the snapshot as it is. Shares the in-flight
+     * load with refreshes, so a reconciliation that finds a refresh running waits for it and tries again next time.
+     */
+    @Scheduled(
+            fixedDelayString = "${employee-v1.snapshot.reconcile-interval:3600000}",
+            initialDelayString = "${employee-v1.snapshot.reconcile-interval:3600000}")
+    public void reconcile() {
+        if (!reconcileEnabled || snapshot.get() == null) {
+            return;
+        }
+        try {
+            snapshotLoads.load(SNAPSHOT_KEY, this::reloadUnconditionally);
+        } catch (RuntimeException ex) {
+            log.warn("Employee snapshot reconciliation failed, serving last good snapshot: {}", ex.getMessage());
+        }
+    }
+
+    private EmployeeSnapshot load() {
+        return snapshotLoads.load(SNAPSHOT_KEY, this::reload);
+    }
+
+    private EmployeeSnapshot reloadUnconditionally() {
+        long start = System.nanoTime();
+        String type = "failed";
+        try {
+            EmployeeSnapshot loaded = reloadList(snapshot.get(), false);
+            type = "reconcile";
+            return loaded;
+        } finally {
+            recordRefresh(type, start);
+        }
+    }
+
+    private EmployeeSnapshot reload() {
+        long start = System.nanoTime();
+        String type = "failed";
+        try {
+            EmployeeSnapshot current = snapshot.get();
+            ChangeCursor cursor = changeCursor;
+            if (current != null && cursor != null && changeFeedEnabled) {
+                Optional<EmployeeSnapshot> synced = syncChanges(current, cursor);
+                if (synced.isPresent()) {
+                    type = "incremental";
+                    return synced.get();
+                }
+            }
+            EmployeeSnapshot loaded = reloadList(current, true);
+            type = loaded == current ? "not-modified" : "full";
+            return loaded;
+        } finally {
+            recordRefresh(type, start);
+        }
+    }
+
+    private void recordRefresh(String type, long start) {
+        MeterRegistry metrics = registry;
+        if (metrics != null) {
+            metrics.timer("employee.snapshot.refresh", "type", type)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Reloads the full list.
+     *
+     * @param conditional send the upstream's last ETag, so an unchanged list costs a 304 and keeps {@code current}
+     * @return the reloaded snapshot, or {@code current} if the upstream says it is unchanged
+     */
+    private EmployeeSnapshot reloadList(EmployeeSnapshot current, boolean conditional) {
+        startReload();
+        EmployeeListResponse response;
+        try {
+            response = employeeApiClient.getAllEmployeesIfChanged(current != null && conditional ? upstreamETag : null);
+        } catch (RuntimeException ex) {
+            finishReload(null);
+            throw refreshFailed(ex);
+        }
+
+        EmployeeSnapshot loaded;
+        if (response.notModified() && current != null) {
+            // Writes racing with the request were applied to the current snapshot already; there is nothing to replay.
+            finishReload(null);
+            current.revalidated(Instant.now());
+            loaded = current;
+            notModifiedRefreshes.incrementAndGet();
+        } else {
+            loaded = EmployeeSnapshot.of(response.employees(), Instant.now());
+            EmployeeSnapshot previous = finishReload(loaded);
+            if (previous != null) {
+                int drift = previous.countDifferences(loaded);
+                if (drift > 0) {
+                    reconciledDrift.addAndGet(drift);
+                    log.warn("Reconciled employee snapshot: {} employees differed from the upstream", drift);
+                }
+            }
+        }
+        upstreamETag = response.etag();
+        changeCursor = response.cursor();
+        refreshSucceeded(loaded);
+        log.info(
+                "{} employee snapshot with {} employees, next refresh at {}",
+                loaded == current ? "Revalidated" : "Loaded",
+                loaded.employees().size(),
+                nextRefreshAt);
+        return loaded;
+    }
+
+    /**
+     * Brings the current snapshot up to date from the upstream's change feed, so the cost scales with the number of
+     * writes since the last sync rather than with the size of the list. Changes are applied like local writes and are
+     * idempotent, so the feed replaying our own creates and deletes is harmless.
+     *
+     * @return the synced snapshot, or empty if the upstream no longer has the changes and a full reload is needed
+     */
+    private Optional<EmployeeSnapshot> syncChanges(EmployeeSnapshot current, ChangeCursor cursor) {
+        Optional<EmployeeChangeFeed> feed;
+        try {
+            feed = employeeApiClient.getChangesSince(cursor);
+        } catch (RuntimeException ex) {
+            throw refreshFailed(ex);
+        }
+        if (feed.isEmpty()) {
+            fullResyncs.incrementAndGet();
+            log.info("Employee changes since {} are no longer available upstream, reloading the full list", cursor);
+            return Optional.empty();
+        }
+
+        List<EmployeeChangeEvent> changes = feed.get().getChanges() != null ? feed.get().getChanges() : List.of();
+        for (EmployeeChangeEvent change : changes) {
+            if (EmployeeChangeEvent.CREATED.equals(change.getType()) && change.getEmployee() != null) {
+                apply(EmployeeChange.created(change.getEmployee()));
+            } else if (EmployeeChangeEvent.DELETED.equals(change.getType())) {
+                apply(EmployeeChange.deleted(change.getId()));
+            }
+        }
+        changeCursor = new ChangeCursor(feed.get().getEpoch(), feed.get().getVersion());
+        current.revalidated(Instant.now());
+        incrementalSyncs.incrementAndGet();
+        refreshSucceeded(current);
+        log.debug("Synced {} employee changes, next refresh at {}", changes.size(), nextRefreshAt);
+        return Optional.of(current);
+    }
+
+    private RuntimeException refreshFailed(RuntimeException ex) {
+        lastRefreshFailure = Instant.now();
+        nextRefreshAt = lastRefreshFailure.plusMillis(failureRetryDelayMs);
+        return ex;
+    }
+
+    private void refreshSucceeded(EmployeeSnapshot refreshed) {
+        lastRefreshFailure = null;
+        nextRefreshAt = refreshed
+                .loadedAt()
+                .plusMillis(refreshIntervalMs - ThreadLocalRandom.current().nextLong(refreshJitterMs + 1));
+    }
+
+    private static Map<SnapshotView, LongAdder> counters() {
+        Map<SnapshotView, LongAdder> counters = new EnumMap<>(SnapshotView.class);
+        for (SnapshotView view : SnapshotView.values()) {
+            counters.put(view, new LongAdder());
+        }
+        return counters;
+    }
+
+    private void startReload() {
+        writeLock.lock();
+        try {
+            reloadInFlight = true;
+            invalidatedDuringReload = false;
+            changesDuringReload.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Swaps in the reloaded snapshot, if any, after replaying the writes that raced with the reload.
+     *
+     * @return the snapshot that was replaced
+     */
+    private EmployeeSnapshot finishReload(EmployeeSnapshot loaded) {
+        writeLock.lock();
+        try {
+            reloadInFlight = false;
+            if (loaded == null || invalidatedDuringReload) {
+                changesDuringReload.clear();
+                return null;
+            }
+            changesDuringReload.forEach(loaded::apply);
+            changesDuringReload.clear();
+            return snapshot.getAndSet(loaded);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
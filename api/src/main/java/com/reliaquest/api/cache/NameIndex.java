@@ -0,0 +1,203 @@
+package com.reliaquest.api.cache;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Case-insensitive substring search over employee names, backed by a trigram inverted index over the rows of an
+ * {@link EmployeeColumns} version. A query looks up the posting list of each of its trigrams, intersects them starting
+ * from the shortest, and only confirms the surviving candidates against the name itself; the query string is never
+ * copied or lowercased.
+ *
+ * <p>The index stays usable for later versions of the same layout: deleted rows are skipped when confirming
+ * candidates, and rows appended after it was built are checked one by one. Once more than {@value
+ * #MAX_PENDING_CHANGES} rows have been appended, or the rows are renumbered, {@link #covers} tells the snapshot to
+ * build a new one. Instances are immutable.
+ */
+public final class NameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private static final int MAX_PENDING_CHANGES = 1024;
+
+    private static final Comparator<int[]> SHORTEST_FIRST = Comparator.comparingInt(list -> list.length);
+
+    private final int layout;
+
+    /**
+     * Rows below this are in the posting lists.
+     */
+    private final int indexedRows;
+
+    private final long[] keys;
+
+    private final int[][] rowLists;
+
+    private final int mask;
+
+    private NameIndex(int layout, int indexedRows, Map<Long, RowList> lists) {
+        this.layout = layout;
+        this.indexedRows = indexedRows;
+        int capacity = 2;
+        while (capacity < lists.size() * 2) {
+            capacity <<= 1;
+        }
+        this.keys = new long[capacity];
+        this.rowLists = new int[capacity][];
+        this.mask = capacity - 1;
+        lists.forEach((key, list) -> {
+            int slot = slot(key);
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            rowLists[slot] = list.toArray();
+        });
+    }
+
+    public static NameIndex of(EmployeeColumns columns) {
+        Map<Long, RowList> lists = new HashMap<>();
+        for (int row = 0; row < columns.size(); row++) {
+            String name = columns.name(row);
+            if (name == null || !columns.isLive(row)) {
+                continue;
+            }
+            for (int offset = 0; offset + GRAM_LENGTH <= name.length(); offset++) {
+                lists.computeIfAbsent(trigram(name, offset), ignored -> new RowList()).add(row);
+            }
+        }
+        return new NameIndex(columns.layout(), columns.size(), lists);
+    }
+
+    /**
+     * @return true if this index can answer searches over {@code columns}
+     */
+    public boolean covers(EmployeeColumns columns) {
+        return layout == columns.layout()
+                && indexedRows <= columns.size()
+                && columns.size() - indexedRows <= MAX_PENDING_CHANGES;
+    }
+
+    /**
+     * @param columns a version this index {@link #covers}
+     * @return rows of {@code columns} whose name contains {@code query}, ignoring case, in ascending order
+     */
+    public int[] search(String query, EmployeeColumns columns) {
+        RowList matches = new RowList();
+        searchIndexed(query, columns, matches);
+        for (int row = indexedRows; row < columns.size(); row++) {
+            collect(row, query, columns, matches);
+        }
+        return matches.toArray();
+    }
+
+    private void searchIndexed(String query, EmployeeColumns columns, RowList matches) {
+        int gramCount = query.length() - GRAM_LENGTH + 1;
+        if (gramCount <= 0) {
+            // Too short to have a trigram, so every name is a candidate.
+            for (int row = 0; row < indexedRows; row++) {
+                collect(row, query, columns, matches);
+            }
+            return;
+        }
+
+        int[][] lists = new int[gramCount][];
+        for (int offset = 0; offset < gramCount; offset++) {
+            lists[offset] = rowList(trigram(query, offset));
+            if (lists[offset] == null) {
+                return;
+            }
+        }
+        Arrays.sort(lists, SHORTEST_FIRST);
+
+        int[] cursors = new int[gramCount];
+        candidates:
+        for (int row : lists[0]) {
+            for (int i = 1; i < gramCount; i++) {
+                int position = Arrays.binarySearch(lists[i], cursors[i], lists[i].length, row);
+                if (position >= 0) {
+                    cursors[i] = position;
+                    continue;
+                }
+                cursors[i] = -position - 1;
+                if (cursors[i] == lists[i].length) {
+                    // Nothing left in this list, so no later candidate can match either.
+                    return;
+                }
+                continue candidates;
+            }
+            // Sharing every trigram does not guarantee they are contiguous, so confirm against the name.
+            collect(row, query, columns, matches);
+        }
+    }
+
+    private static void collect(int row, String query, EmployeeColumns columns, RowList matches) {
+        String name = columns.name(row);
+        if (name != null && columns.isLive(row) && containsIgnoreCase(name, query)) {
+            matches.add(row);
+        }
+    }
+
+    private int[] rowList(long key) {
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return rowLists[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    static boolean containsIgnoreCase(String text, String query) {
+        int last = text.length() - query.length();
+        for (int i = 0; i <= last; i++) {
+            if (text.regionMatches(true, i, query, 0, query.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Packs the lowercased trigram starting at {@code offset} into a long. The marker bit keeps every key non-zero,
+     * which the posting table uses to mark empty slots.
+     */
+    static long trigram(String text, int offset) {
+        return 1L << 48
+                | (long) Character.toLowerCase(text.charAt(offset)) << 32
+                | (long) Character.toLowerCase(text.charAt(offset + 1)) << 16
+                | Character.toLowerCase(text.charAt(offset + 2));
+    }
+
+    /**
+     * Growable ascending row list; a row is recorded once per trigram even if the name repeats it.
+     */
+    private static final class RowList {
+
+        private int[] rows = new int[4];
+
+        private int size;
+
+        void add(int row) {
+            if (size > 0 && rows[size - 1] == row) {
+                return;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+}
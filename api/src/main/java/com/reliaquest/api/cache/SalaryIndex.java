@@ -0,0 +1,262 @@
+package com.reliaquest.api.cache;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+
+/**
+ * Salaries of an {@link EmployeeColumns} version in sorted order, for order statistics: the top earners, salary
+ * percentiles and salary ranges. Each employee is one {@code long} key, the salary in the high half and the row in the
+ * low half, so sorting and searching never box or compare objects.
+ *
+ * <p>The bulk of the keys is an array sorted once when the index is built. Creates and deletes since are kept in two
+ * small sorted arrays next to it, so counting the salaries up to a value is three binary searches and reading the
+ * highest ones walks the arrays from the top. Once there are more than {@value #MAX_PENDING_CHANGES} changes, or the
+ * rows are renumbered, {@link #covers} tells the snapshot to build a new one. Instances are immutable.
+ */
+public final class SalaryIndex {
+
+    private static final int MAX_PENDING_CHANGES = 1024;
+
+    private static final long[] NO_KEYS = new long[0];
+
+    private final int layout;
+
+    private final long[] indexed;
+
+    private final long[] added;
+
+    /**
+     * Keys of {@link #indexed} whose employees have since been deleted.
+     */
+    private final long[] removed;
+
+    private SalaryIndex(int layout, long[] indexed, long[] added, long[] removed) {
+        this.layout = layout;
+        this.indexed = indexed;
+        this.added = added;
+        this.removed = removed;
+    }
+
+    public static SalaryIndex of(EmployeeColumns columns) {
+        long[] keys = new long[columns.count()];
+        int count = 0;
+        for (int row = 0; row < columns.size(); row++) {
+            int salary = columns.salary(row);
+            if (salary != EmployeeColumns.NO_VALUE && columns.isLive(row)) {
+                keys[count++] = key(salary, row);
+            }
+        }
+        keys = Arrays.copyOf(keys, count);
+        Arrays.sort(keys);
+        return new SalaryIndex(columns.layout(), keys, NO_KEYS, NO_KEYS);
+    }
+
+    /**
+     * @return true if this index answers queries over {@code columns}
+     */
+    public boolean covers(EmployeeColumns columns) {
+        return layout == columns.layout() && added.length + removed.length <= MAX_PENDING_CHANGES;
+    }
+
+    /**
+     * @return this index plus {@code row} of {@code columns}, a version this index covers
+     */
+    SalaryIndex with(EmployeeColumns columns, int row) {
+        int salary = columns.salary(row);
+        if (salary == EmployeeColumns.NO_VALUE) {
+            return this;
+        }
+        return new SalaryIndex(layout, indexed, insert(added, key(salary, row)), removed);
+    }
+
+    /**
+     * @return this index without {@code row} of {@code columns}, a version this index covers
+     */
+    SalaryIndex without(EmployeeColumns columns, int row) {
+        int salary = columns.salary(row);
+        if (salary == EmployeeColumns.NO_VALUE) {
+            return this;
+        }
+        long key = key(salary, row);
+        int position = Arrays.binarySearch(added, key);
+        if (position >= 0) {
+            return new SalaryIndex(layout, indexed, delete(added, position), removed);
+        }
+        return new SalaryIndex(layout, indexed, added, insert(removed, key));
+    }
+
+    /**
+     * @return number of employees with a salary
+     */
+    public int count() {
+        return indexed.length + added.length - removed.length;
+    }
+
+    /**
+     * @return number of employees earning at most {@code salary}
+     */
+    public int countAtMost(int salary) {
+        long bound = key(salary, -1);
+        return countAtMost(indexed, bound) + countAtMost(added, bound) - countAtMost(removed, bound);
+    }
+
+    /**
+     * @return the highest salary, or 0 when there are no salaries
+     */
+    public int highestSalary() {
+        long highest = highestLive();
+        return highest != Long.MIN_VALUE ? salaryOf(highest) : 0;
+    }
+
+    /**
+     * Nearest-rank percentile: the lowest salary that at least {@code percentile} percent of employees earn at most.
+     *
+     * @param percentile between 0 and 100
+     * @return the salary, or empty when there are no salaries
+     */
+    public OptionalInt percentile(double percentile) {
+        int count = count();
+        if (count == 0) {
+            return OptionalInt.empty();
+        }
+        // The epsilon keeps e.g. 99.9% of 1000 at rank 999 despite 99.9 not being exact in binary.
+        int rank = Math.max(1, (int) Math.ceil(percentile * count / 100 - 1e-9));
+        return OptionalInt.of(salaryAtRank(Math.min(rank, count)));
+    }
+
+    /**
+     * @return rows of the {@code limit} highest earners, highest first; equal salaries in row order
+     */
+    public int[] topRows(int limit) {
+        return rowsDescending(Long.MAX_VALUE, Long.MIN_VALUE, limit);
+    }
+
+    /**
+     * @return rows of the employees earning from {@code min} to {@code max}, highest first; equal salaries in row order
+     */
+    public int[] rowsBetween(int min, int max) {
+        if (min > max) {
+            return new int[0];
+        }
+        int count = countAtMost(max) - (min > Integer.MIN_VALUE ? countAtMost(min - 1) : 0);
+        return rowsDescending(key(max, -1), key(min, Integer.MAX_VALUE), count);
+    }
+
+    /**
+     * The salary of the employee at {@code rank} (1-based) in ascending order. Searches the salary values rather than
+     * the arrays, each step costing three binary searches, so it is O(log n) for the fixed width of an {@code int}.
+     */
+    private int salaryAtRank(int rank) {
+        long low = salaryOf(lowestLive());
+        long high = salaryOf(highestLive());
+        while (low < high) {
+            long middle = (low + high) >> 1;
+            if (countAtMost((int) middle) >= rank) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return (int) low;
+    }
+
+    private long highestLive() {
+        return nextDescending(new int[] {indexed.length - 1, added.length - 1, removed.length - 1});
+    }
+
+    private long lowestLive() {
+        int i = 0;
+        int r = 0;
+        while (i < indexed.length && r < removed.length && indexed[i] == removed[r]) {
+            i++;
+            r++;
+        }
+        long lowest = i < indexed.length ? indexed[i] : Long.MAX_VALUE;
+        return added.length > 0 ? Math.min(lowest, added[0]) : lowest;
+    }
+
+    /**
+     * Walks the live keys from {@code from} down to {@code to}, both inclusive, merging the indexed keys, minus the
+     * removed ones, with the added ones.
+     */
+    private int[] rowsDescending(long from, long to, int limit) {
+        int[] positions = {
+            countAtMost(indexed, from) - 1, countAtMost(added, from) - 1, countAtMost(removed, from) - 1
+        };
+        int[] rows = new int[Math.min(limit, count())];
+        int count = 0;
+        while (count < rows.length) {
+            long key = nextDescending(positions);
+            if (key == Long.MIN_VALUE || key < to) {
+                break;
+            }
+            rows[count++] = rowOf(key);
+        }
+        return count == rows.length ? rows : Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * @param positions cursors into the indexed, added and removed keys, each at the highest key not yet returned;
+     *     advanced past the returned key
+     * @return the next live key, or {@link Long#MIN_VALUE} when there is none
+     */
+    private long nextDescending(int[] positions) {
+        while (true) {
+            long fromIndexed = positions[0] >= 0 ? indexed[positions[0]] : Long.MIN_VALUE;
+            long fromAdded = positions[1] >= 0 ? added[positions[1]] : Long.MIN_VALUE;
+            if (fromIndexed == Long.MIN_VALUE && fromAdded == Long.MIN_VALUE) {
+                return Long.MIN_VALUE;
+            }
+            if (fromAdded > fromIndexed) {
+                positions[1]--;
+                return fromAdded;
+            }
+            positions[0]--;
+            while (positions[2] >= 0 && removed[positions[2]] > fromIndexed) {
+                positions[2]--;
+            }
+            if (positions[2] >= 0 && removed[positions[2]] == fromIndexed) {
+                positions[2]--;
+                continue;
+            }
+            return fromIndexed;
+        }
+    }
+
+    /**
+     * Salary first, then the row: rows are stored as {@code Integer.MAX_VALUE - row} so that walking down from the
+     * highest key returns equal salaries in row order.
+     */
+    static long key(int salary, int row) {
+        return (long) salary << 32 | (Integer.MAX_VALUE - row) & 0xFFFFFFFFL;
+    }
+
+    private static int salaryOf(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int rowOf(long key) {
+        return Integer.MAX_VALUE - (int) key;
+    }
+
+    private static int countAtMost(long[] keys, long bound) {
+        int position = Arrays.binarySearch(keys, bound);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    private static long[] insert(long[] keys, long key) {
+        int position = -Arrays.binarySearch(keys, key) - 1;
+        long[] inserted = new long[keys.length + 1];
+        System.arraycopy(keys, 0, inserted, 0, position);
+        inserted[position] = key;
+        System.arraycopy(keys, position, inserted, position + 1, keys.length - position);
+        return inserted;
+    }
+
+    private static long[] delete(long[] keys, int position) {
+        long[] deleted = new long[keys.length - 1];
+        System.arraycopy(keys, 0, deleted, 0, position);
+        System.arraycopy(keys, position + 1, deleted, position, deleted.length - position);
+        return deleted;
+    }
+}
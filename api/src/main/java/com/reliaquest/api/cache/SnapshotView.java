@@ -0,0 +1,26 @@
+package com.reliaquest.api.cache;
+
+/**
+ * The responses computed from the employee snapshot, as tagged in its cache metrics.
+ */
+public enum SnapshotView {
+    ALL("all"),
+    SEARCH("search"),
+    HIGHEST_SALARY("highestSalary"),
+    TOP_TEN("top10"),
+    TOP_EARNERS("topEarners"),
+    PERCENTILES("percentiles"),
+    SALARY_RANGE("salaryRange"),
+    TITLE_STATISTICS("titleStatistics"),
+    AGE_BANDS("ageBands");
+
+    private final String tag;
+
+    SnapshotView(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,205 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Paces calls to the mock API so they stay inside its request budget instead of discovering the budget through 429s.
+ *
+ * <p>The mock API lets a fixed number of requests through and then rejects everything until a backoff window has passed
+ * since the last request it allowed; neither number is published. Both are learned here: a 429 tells us how many calls
+ * the window allowed, and the first success after a lockout bounds how long the window lasted (a repeated 429 means the
+ * window is longer than estimated, so the estimate is doubled). A 429 that carries {@code Retry-After} needs no
+ * guessing: calls are held back for exactly that long.
+ *
+ * <p>Once the learned budget is spent, a call that would have to wait up to {@code maxQueueWait} is delayed until the
+ * window reopens; anything longer fails fast with {@link UpstreamRateLimitedException} rather than being sent to be
+ * rejected.
+ */
+@Slf4j
+public class AdaptiveRateLimiter implements ExchangeFilterFunction, MeterBinder {
+
+    private final Clock clock;
+
+    private final Duration maxBackoff;
+
+    private final Duration maxQueueWait;
+
+    private int limitEstimate;
+
+    private Duration backoffEstimate;
+
+    private int allowedInWindow;
+
+    private Instant lastAllowedAt = Instant.EPOCH;
+
+    private Instant lockedUntil = Instant.EPOCH;
+
+    /**
+     * When the current lockout started being observed; {@code null} while the upstream is accepting calls.
+     */
+    private Instant lockoutObservedAt;
+
+    private Counter rejectedLocally;
+
+    public AdaptiveRateLimiter(Clock clock, Duration initialBackoff, Duration maxBackoff, Duration maxQueueWait) {
+        this.clock = clock;
+        this.backoffEstimate = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxQueueWait = maxQueueWait;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> acquire(request, next, clock.instant().plus(maxQueueWait)));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.upstream.rate-limit.estimated-limit", this, AdaptiveRateLimiter::getLimitEstimate)
+                .description("Learned number of requests the mock API allows per window, 0 until observed")
+                .register(registry);
+        Gauge.builder(
+                        "employee.upstream.rate-limit.estimated-backoff",
+                        this,
+                        limiter -> limiter.getBackoffEstimate().toMillis() / 1000.0)
+                .description("Learned length of the mock API's backoff window")
+                .baseUnit("seconds")
+                .register(registry);
+        rejectedLocally = Counter.builder("employee.upstream.rate-limit.rejected")
+                .description("Calls failed fast because the learned request budget was spent")
+                .register(registry);
+    }
+
+    public synchronized int getLimitEstimate() {
+        return limitEstimate;
+    }
+
+    public synchronized Duration getBackoffEstimate() {
+        return backoffEstimate;
+    }
+
+    private Mono<ClientResponse> acquire(ClientRequest request, ExchangeFunction next, Instant deadline) {
+        Instant now = clock.instant();
+        Instant permittedAt = tryAcquire(now);
+        if (permittedAt == null) {
+            return next.exchange(request)
+                    .doOnNext(response -> {
+                        Instant receivedAt = clock.instant();
+                        String retryAfter = response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+                        onResponse(
+                                response.statusCode().value(),
+                                RetryAfter.parse(retryAfter, receivedAt),
+                                now,
+                                receivedAt);
+                    });
+        }
+        if (permittedAt.isAfter(deadline)) {
+            if (rejectedLocally != null) {
+                rejectedLocally.increment();
+            }
+            log.debug("Request budget spent, failing {} {} fast", request.method(), request.url());
+            return Mono.error(new UpstreamRateLimitedException(Duration.between(now, permittedAt)));
+        }
+        log.debug("Request budget spent, delaying {} {} until {}", request.method(), request.url(), permittedAt);
+        return Mono.delay(Duration.between(now, permittedAt)).then(Mono.defer(() -> acquire(request, next, deadline)));
+    }
+
+    /**
+     * Takes a slot in the current window.
+     *
+     * @return {@code null} if the call may go ahead now, otherwise the earliest time it could
+     */
+    synchronized Instant tryAcquire(Instant now) {
+        if (now.isBefore(lockedUntil)) {
+            return lockedUntil;
+        }
+        if (limitEstimate > 0 && allowedInWindow >= limitEstimate) {
+            // The upstream would reject this call; its window runs from the last call it allowed.
+            Instant windowEnd = lastAllowedAt.plus(backoffEstimate);
+            if (now.isBefore(windowEnd)) {
+                lockedUntil = windowEnd;
+                return windowEnd;
+            }
+            allowedInWindow = 0;
+        }
+        allowedInWindow++;
+        lastAllowedAt = now;
+        return null;
+    }
+
+    void onResponse(int status, Instant sentAt, Instant now) {
+        onResponse(status, null, sentAt, now);
+    }
+
+    /**
+     * @param retryAfter how long a rejection said to wait, or null if it did not say
+     * @param sentAt when the call took its slot; responses to calls sent before a lockout was observed say nothing new
+     * about it
+     */
+    synchronized void onResponse(int status, Duration retryAfter, Instant sentAt, Instant now) {
+        boolean sentBeforeLockout = lockoutObservedAt != null && sentAt.isBefore(lockoutObservedAt);
+        if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            if (retryAfter != null) {
+                // The upstream told us when it reopens; nothing to estimate, and no need to double on a repeat.
+                if (lockoutObservedAt == null) {
+                    lockoutObservedAt = now;
+                    learnLimit();
+                }
+                allowedInWindow = 0;
+                lockedUntil = max(lockedUntil, now.plus(retryAfter));
+                return;
+            }
+            if (sentBeforeLockout) {
+                return;
+            }
+            if (lockoutObservedAt == null) {
+                lockoutObservedAt = now;
+                learnLimit();
+            } else {
+                backoffEstimate = min(backoffEstimate.multipliedBy(2), maxBackoff);
+                log.info("Mock API still rejecting calls, estimated backoff raised to {}", backoffEstimate);
+            }
+            allowedInWindow = 0;
+            lockedUntil = now.plus(backoffEstimate);
+            return;
+        }
+
+        if (lockoutObservedAt != null && !sentBeforeLockout) {
+            // The window closed somewhere between our last rejected probe and now; use the upper bound.
+            backoffEstimate = min(Duration.between(lockoutObservedAt, now), maxBackoff);
+            lockoutObservedAt = null;
+            log.info("Mock API accepting calls again, estimated backoff {}", backoffEstimate);
+        }
+    }
+
+    private void learnLimit() {
+        // This call took a slot too, so the window allowed one fewer than we handed out.
+        if (allowedInWindow > 1) {
+            limitEstimate = allowedInWindow - 1;
+        }
+        log.info("Mock API started rejecting calls, estimated limit {} per window", limitEstimate);
+    }
+
+    private static Instant max(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,6 @@
+package com.reliaquest.api.client;
+
+/**
+ * Position in the mock API's change feed: the version a local copy is at, and the upstream epoch it belongs to.
+ */
+public record ChangeCursor(String epoch, long version) {}
@@ -0,0 +1,159 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.CircuitOpenException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import java.net.ConnectException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Closed/open/half-open circuit breaker for one upstream operation.
+ *
+ * <p>Closed, calls go through and consecutive failures (429, 5xx, connection errors and timeouts) are counted; reaching
+ * the threshold opens the circuit. Open, calls fail immediately with {@link CircuitOpenException} until the open
+ * duration has passed. The next call is then let through as a half-open trial: success closes the circuit, failure opens
+ * it again. Other calls keep failing fast while the trial is in flight.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final UpstreamOperation operation;
+
+    private final Clock clock;
+
+    private final int failureThreshold;
+
+    private final Duration openDuration;
+
+    private final BiConsumer<UpstreamOperation, State> transitionListener;
+
+    private State state = State.CLOSED;
+
+    private int consecutiveFailures;
+
+    private Instant openedAt = Instant.EPOCH;
+
+    private boolean trialInFlight;
+
+    public CircuitBreaker(
+            UpstreamOperation operation,
+            Clock clock,
+            int failureThreshold,
+            Duration openDuration,
+            BiConsumer<UpstreamOperation, State> transitionListener) {
+        this.operation = operation;
+        this.clock = clock;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.transitionListener = transitionListener;
+    }
+
+    /**
+     * Guards one attempt of {@code call}; apply it inside any retry so every attempt is counted and an open circuit
+     * stops the retries too.
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            Instant now = clock.instant();
+            if (!tryAcquirePermission(now)) {
+                return Mono.error(new CircuitOpenException(operation.tag(), remainingOpen(now)));
+            }
+            return call.doOnSuccess(ignored -> onSuccess())
+                    .doOnError(this::onError)
+                    .doOnCancel(this::onAbandoned);
+        });
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    synchronized boolean tryAcquirePermission(Instant now) {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> {
+                if (now.isBefore(openedAt.plus(openDuration))) {
+                    yield false;
+                }
+                transitionTo(State.HALF_OPEN);
+                trialInFlight = true;
+                yield true;
+            }
+            case HALF_OPEN -> {
+                if (trialInFlight) {
+                    yield false;
+                }
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    synchronized void onFailure(Instant now) {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            openedAt = now;
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * The call ended without telling us anything about the upstream's health, e.g. it was cancelled.
+     */
+    synchronized void onAbandoned() {
+        trialInFlight = false;
+    }
+
+    private void onError(Throwable error) {
+        if (isUpstreamFailure(error)) {
+            onFailure(clock.instant());
+        } else if (error instanceof UpstreamRateLimitedException) {
+            onAbandoned();
+        } else {
+            // Anything else, such as a 404, is a healthy upstream answering.
+            onSuccess();
+        }
+    }
+
+    private synchronized Duration remainingOpen(Instant now) {
+        Duration remaining = Duration.between(now, openedAt.plus(openDuration));
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("Circuit for {} moved from {} to {}", operation.tag(), state, next);
+        state = next;
+        transitionListener.accept(operation, next);
+    }
+
+    static boolean isUpstreamFailure(Throwable error) {
+        if (error instanceof WebClientResponseException ex) {
+            return ex.getStatusCode().value() == 429 || ex.getStatusCode().is5xxServerError();
+        }
+        return error instanceof WebClientRequestException
+                || error instanceof ConnectException
+                || error instanceof TimeoutException;
+    }
+}
@@ -0,0 +1,210 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChangeFeed;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.timing.RequestPhase;
+import com.reliaquest.api.timing.RequestTimings;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Blocking access to the mock employee API. Every attempt is guarded by the circuit breaker of its operation, and
+ * attempts are retried through the shared retry spec. Time spent blocked on a call, retries included, is charged to the
+ * request's {@link RequestPhase#UPSTREAM} phase.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeApiClient {
+
+    static final String EPOCH_HEADER = "X-Employees-Epoch";
+
+    static final String VERSION_HEADER = "X-Employees-Version";
+
+    static final String DELETED_ID_HEADER = "X-Deleted-Employee-Id";
+
+    private final WebClient webClient;
+
+    private final Retry defaultRetrySpec;
+
+    private final UpstreamCircuitBreakers circuitBreakers;
+
+    private final ObjectMapper objectMapper;
+
+    private record DeleteRequest(String name) {}
+
+    @Value("${employee-v1.api.endpoints.default:}")
+    private String defaultEndpoint;
+
+    @Value("${employee-v1.api.endpoints.get-by-id:/{id}}")
+    private String getByIdEndpoint;
+
+    @Value("${employee-v1.api.endpoints.changes:/changes}")
+    private String changesEndpoint;
+
+    public List<Employee> getAllEmployees() {
+        return getAllEmployeesIfChanged(null).employees();
+    }
+
+    /**
+     * Conditional list request: with an ETag from an earlier response, an unchanged list costs the upstream a 304
+     * instead of the full download and parse.
+     *
+     * @param etag tag of the list the caller already holds, or null to always fetch it
+     */
+    public EmployeeListResponse getAllEmployeesIfChanged(String etag) {
+        log.info("Fetching all employees{}", etag != null ? " if changed from " + etag : "");
+        // Fetched as bytes and parsed here rather than by the codec, so the parse is timed on its own (DECODE) instead
+        // of disappearing into the upstream wait.
+        ResponseEntity<byte[]> response = upstream(this.webClient
+                .get()
+                .uri(defaultEndpoint)
+                .headers(headers -> {
+                    if (etag != null) {
+                        headers.setIfNoneMatch(etag);
+                    }
+                })
+                .retrieve()
+                .toEntity(byte[].class)
+                .transform(circuitBreakers.get(UpstreamOperation.LIST)::protect)
+                .retryWhen(defaultRetrySpec));
+
+        if (response == null) {
+            return EmployeeListResponse.modified(Collections.emptyList(), null);
+        }
+        ChangeCursor cursor = changeCursor(response.getHeaders());
+        if (response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+            return EmployeeListResponse.notModified(etag, cursor);
+        }
+        String responseETag = response.getHeaders().getETag();
+        EmployeeResponse<List<Employee>> body = decodeList(response.getBody());
+        if (body != null && body.getData() != null) {
+            return EmployeeListResponse.modified(body.getData(), responseETag, cursor);
+        }
+        return EmployeeListResponse.modified(Collections.emptyList(), responseETag, cursor);
+    }
+
+    private EmployeeResponse<List<Employee>> decodeList(byte[] body) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        JavaType type = objectMapper
+                .getTypeFactory()
+                .constructParametricType(
+                        EmployeeResponse.class,
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, Employee.class));
+        int phase = RequestTimings.enter(RequestPhase.DECODE);
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Malformed employee list from the mock API", ex);
+        } finally {
+            RequestTimings.exit(phase);
+        }
+    }
+
+    /**
+     * Incremental sync: the changes made upstream after {@code cursor}.
+     *
+     * @return the changes, or empty if the upstream no longer retains them (410 Gone) and the list must be reloaded
+     */
+    public Optional<EmployeeChangeFeed> getChangesSince(ChangeCursor cursor) {
+        log.debug("Fetching employee changes since {}", cursor);
+        EmployeeResponse<EmployeeChangeFeed> response = upstream(this.webClient
+                .get()
+                // A URI template rather than a built URI, so upstream metrics group these calls under one endpoint.
+                .uri(changesEndpoint + "?since={since}&epoch={epoch}", cursor.version(), cursor.epoch())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<EmployeeResponse<EmployeeChangeFeed>>() {})
+                .onErrorResume(WebClientResponseException.Gone.class, ex -> Mono.empty())
+                .transform(circuitBreakers.get(UpstreamOperation.CHANGES)::protect)
+                .retryWhen(defaultRetrySpec));
+        return Optional.ofNullable(response != null ? response.getData() : null);
+    }
+
+    public Optional<Employee> getEmployeeById(String id) {
+        log.info("Fetching employee by ID: {}", id);
+        EmployeeResponse<Employee> response = upstream(this.webClient
+                .get()
+                .uri(getByIdEndpoint, id)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<EmployeeResponse<Employee>>() {})
+                .transform(circuitBreakers.get(UpstreamOperation.GET_BY_ID)::protect)
+                .retryWhen(defaultRetrySpec));
+        return Optional.ofNullable(response != null ? response.getData() : null);
+    }
+
+    public Optional<Employee> createEmployee(EmployeeInput input) {
+        EmployeeResponse<Employee> response = upstream(this.webClient
+                .post()
+                .uri(defaultEndpoint)
+                .bodyValue(input)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<EmployeeResponse<Employee>>() {})
+                .transform(circuitBreakers.get(UpstreamOperation.CREATE)::protect)
+                .retryWhen(defaultRetrySpec));
+        return Optional.ofNullable(response != null ? response.getData() : null);
+    }
+
+    private static <T> T upstream(Mono<T> call) {
+        int phase = RequestTimings.enter(RequestPhase.UPSTREAM);
+        try {
+            return call.block();
+        } finally {
+            RequestTimings.exit(phase);
+        }
+    }
+
+    private static ChangeCursor changeCursor(HttpHeaders headers) {
+        String epoch = headers.getFirst(EPOCH_HEADER);
+        String version = headers.getFirst(VERSION_HEADER);
+        if (epoch == null || version == null) {
+            return null;
+        }
+        try {
+            return new ChangeCursor(epoch, Long.parseLong(version));
+        } catch (NumberFormatException ex) {
+            log.warn("Ignoring malformed {} header: {}", VERSION_HEADER, version);
+            return null;
+        }
+    }
+
+    /**
+     * The mock API deletes by name rather than by ID, removing the oldest employee with that name. Which one it removed
+     * is read from its {@value #DELETED_ID_HEADER} header.
+     */
+    public EmployeeDeletion deleteEmployeeByName(String name) {
+        ResponseEntity<EmployeeResponse<Boolean>> response = upstream(this.webClient
+                .method(HttpMethod.DELETE)
+                .uri(defaultEndpoint)
+                .bodyValue(new DeleteRequest(name))
+                .retrieve()
+                .toEntity(new ParameterizedTypeReference<EmployeeResponse<Boolean>>() {})
+                .transform(circuitBreakers.get(UpstreamOperation.DELETE)::protect)
+                .retryWhen(defaultRetrySpec));
+        if (response == null || response.getBody() == null || !Boolean.TRUE.equals(response.getBody().getData())) {
+            return EmployeeDeletion.notDeleted();
+        }
+        return EmployeeDeletion.deleted(response.getHeaders().getFirst(DELETED_ID_HEADER));
+    }
+}
@@ -0,0 +1,18 @@
+package com.reliaquest.api.client;
+
+/**
+ * Outcome of a delete by name.
+ *
+ * @param deleted true if the upstream removed an employee
+ * @param id the ID of the employee removed, or null if the upstream did not say
+ */
+public record EmployeeDeletion(boolean deleted, String id) {
+
+    public static EmployeeDeletion deleted(String id) {
+        return new EmployeeDeletion(true, id);
+    }
+
+    public static EmployeeDeletion notDeleted() {
+        return new EmployeeDeletion(false, null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+
+/**
+ * Outcome of a conditional list request.
+ *
+ * @param notModified true if the upstream answered 304, i.e. the list behind {@code etag} is still current
+ * @param employees the list, or null when not modified
+ * @param etag the upstream's tag for the list, or null if it sent none
+ * @param cursor where the change feed picks up from this list, or null if the upstream did not say
+ */
+public record EmployeeListResponse(boolean notModified, List<Employee> employees, String etag, ChangeCursor cursor) {
+
+    public static EmployeeListResponse modified(List<Employee> employees, String etag) {
+        return modified(employees, etag, null);
+    }
+
+    public static EmployeeListResponse modified(List<Employee> employees, String etag, ChangeCursor cursor) {
+        return new EmployeeListResponse(false, employees, etag, cursor);
+    }
+
+    public static EmployeeListResponse notModified(String etag) {
+        return notModified(etag, null);
+    }
+
+    public static EmployeeListResponse notModified(String etag, ChangeCursor cursor) {
+        return new EmployeeListResponse(true, null, etag, cursor);
+    }
+}
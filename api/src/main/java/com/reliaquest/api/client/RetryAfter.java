@@ -0,0 +1,48 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Reads the {@code Retry-After} header the mock API sends with a rejection, in either of its forms: delay in seconds or
+ * HTTP date.
+ */
+final class RetryAfter {
+
+    private RetryAfter() {}
+
+    /**
+     * @return how long the failed call was told to wait, or null if it was not told
+     */
+    static Duration of(Throwable failure, Instant now) {
+        if (failure instanceof WebClientResponseException ex) {
+            return parse(ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER), now);
+        }
+        return null;
+    }
+
+    static Duration parse(String value, Instant now) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            long seconds = Long.parseLong(value.trim());
+            return seconds >= 0 ? Duration.ofSeconds(seconds) : null;
+        } catch (NumberFormatException ignored) {
+            // Not delay-seconds; try the HTTP-date form.
+        }
+        try {
+            Instant at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toInstant();
+            Duration delay = Duration.between(now, at);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
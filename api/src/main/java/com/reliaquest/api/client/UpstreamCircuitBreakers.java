@@ -0,0 +1,65 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * One {@link CircuitBreaker} per {@link UpstreamOperation}, so a failing write path does not cut off reads and vice
+ * versa. Publishes each circuit's state and its transitions as metrics.
+ */
+@Component
+public class UpstreamCircuitBreakers implements MeterBinder {
+
+    private final Map<UpstreamOperation, CircuitBreaker> breakers = new EnumMap<>(UpstreamOperation.class);
+
+    private volatile MeterRegistry registry;
+
+    public UpstreamCircuitBreakers(
+            @Value("${employee-v1.api.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${employee-v1.api.circuit-breaker.open-duration:30000}") long openDurationMs) {
+        for (UpstreamOperation operation : UpstreamOperation.values()) {
+            breakers.put(
+                    operation,
+                    new CircuitBreaker(
+                            operation,
+                            Clock.systemUTC(),
+                            failureThreshold,
+                            Duration.ofMillis(openDurationMs),
+                            this::onTransition));
+        }
+    }
+
+    public CircuitBreaker get(UpstreamOperation operation) {
+        return breakers.get(operation);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        breakers.forEach((operation, breaker) -> Gauge.builder(
+                        "employee.upstream.circuit.state", breaker, b -> b.getState().ordinal())
+                .description("Circuit state: 0 closed, 1 open, 2 half-open")
+                .tag("operation", operation.tag())
+                .register(registry));
+    }
+
+    private void onTransition(UpstreamOperation operation, CircuitBreaker.State state) {
+        MeterRegistry current = registry;
+        if (current != null) {
+            current.counter(
+                            "employee.upstream.circuit.transitions",
+                            "operation",
+                            operation.tag(),
+                            "state",
+                            state.name().toLowerCase())
+                    .increment();
+        }
+    }
+}
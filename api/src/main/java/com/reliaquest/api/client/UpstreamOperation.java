@@ -0,0 +1,25 @@
+package com.reliaquest.api.client;
+
+/**
+ * Calls made to the mock API, each guarded by its own circuit breaker.
+ */
+public enum UpstreamOperation {
+    LIST("list"),
+    CHANGES("changes"),
+    GET_BY_ID("get-by-id"),
+    CREATE("create"),
+    DELETE("delete");
+
+    private final String tag;
+
+    UpstreamOperation(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * @return name used in logs and metric tags
+     */
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,128 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Retries failed calls to the mock API, up to {@code maxAttempts} times.
+ *
+ * <p>A rejection that says when to come back ({@code Retry-After}) is retried exactly then instead of after a guessed
+ * backoff. If that is further away than {@code maxBackoff}, the call fails at once with
+ * {@link UpstreamRateLimitedException} instead of spending the remaining attempts on rejections. Other retryable
+ * failures back off exponentially from {@code initialBackoff}, with jitter.
+ *
+ * <p>Retries are counted in {@code employee.upstream.retries} by whether they followed {@code Retry-After} or backed
+ * off, and calls given up on in {@code employee.upstream.retries.exhausted} by why.
+ */
+@Slf4j
+public class UpstreamRetry extends Retry implements MeterBinder {
+
+    private static final double JITTER_FACTOR = 0.5;
+
+    private final long maxAttempts;
+
+    private final Duration initialBackoff;
+
+    private final Duration maxBackoff;
+
+    private final Predicate<Throwable> retryable;
+
+    private final Clock clock;
+
+    private final LongAdder retriesAfterRetryAfter = new LongAdder();
+
+    private final LongAdder retriesAfterBackoff = new LongAdder();
+
+    private final LongAdder attemptsExhausted = new LongAdder();
+
+    private final LongAdder retryAfterTooLong = new LongAdder();
+
+    public UpstreamRetry(
+            long maxAttempts,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            Predicate<Throwable> retryable,
+            Clock clock) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retryable = retryable;
+        this.clock = clock;
+    }
+
+    @Override
+    public Flux<Long> generateCompanion(Flux<RetrySignal> retrySignals) {
+        return retrySignals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            long attempt = signal.totalRetries();
+            if (!retryable.test(failure)) {
+                return Mono.error(failure);
+            }
+            if (attempt >= maxAttempts) {
+                attemptsExhausted.increment();
+                return Mono.error(
+                        Exceptions.retryExhausted("Retries exhausted: " + attempt + "/" + maxAttempts, failure));
+            }
+            Duration retryAfter = RetryAfter.of(failure, clock.instant());
+            if (retryAfter != null && retryAfter.compareTo(maxBackoff) > 0) {
+                retryAfterTooLong.increment();
+                log.warn("Not retrying, upstream asked to wait {}s: {}", retryAfter.toSeconds(), failure.getMessage());
+                return Mono.error(new UpstreamRateLimitedException(retryAfter));
+            }
+            Duration delay = retryAfter != null ? retryAfter : backoff(attempt);
+            (retryAfter != null ? retriesAfterRetryAfter : retriesAfterBackoff).increment();
+            log.warn(
+                    "Retrying request (attempt {}/{}) in {}ms due to: {}",
+                    attempt + 1,
+                    maxAttempts,
+                    delay.toMillis(),
+                    failure.getMessage());
+            return Mono.delay(delay).thenReturn(attempt);
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.upstream.retries", retriesAfterRetryAfter, LongAdder::sum)
+                .description("Retried calls to the mock API, by how the delay was chosen")
+                .tag("delay", "retry-after")
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.retries", retriesAfterBackoff, LongAdder::sum)
+                .description("Retried calls to the mock API, by how the delay was chosen")
+                .tag("delay", "backoff")
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.retries.exhausted", attemptsExhausted, LongAdder::sum)
+                .description("Calls to the mock API given up on, by why")
+                .tag("reason", "max-attempts")
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.retries.exhausted", retryAfterTooLong, LongAdder::sum)
+                .description("Calls to the mock API given up on, by why")
+                .tag("reason", "retry-after-too-long")
+                .register(registry);
+    }
+
+    /**
+     * Exponential backoff with jitter, kept between {@code initialBackoff} and {@code maxBackoff}.
+     */
+    Duration backoff(long attempt) {
+        long base = initialBackoff.toMillis() << Math.min(attempt, 30);
+        long next = Math.min(base < 0 ? Long.MAX_VALUE : base, maxBackoff.toMillis());
+        long offset = (long) (next * JITTER_FACTOR);
+        long low = Math.max(initialBackoff.toMillis() - next, -offset);
+        long high = Math.min(maxBackoff.toMillis() - next, offset);
+        long jitter = low < high ? ThreadLocalRandom.current().nextLong(low, high + 1) : 0;
+        return Duration.ofMillis(next + jitter);
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.api.controller;
+
+import static com.reliaquest.api.controller.EmployeeController.fromSnapshot;
+
+import com.reliaquest.api.model.AgeBand;
+import com.reliaquest.api.model.TitleStatistics;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Group-by aggregates for dashboards, so they no longer download the full list to compute them, kept apart from
+ * {@link IEmployeeController}'s contract. Like the other list-derived responses they carry the snapshot's ETag and are
+ * flagged when it is stale.
+ */
+@RestController
+@RequestMapping("/api/v2/employee/analytics")
+@Slf4j
+@RequiredArgsConstructor
+public class EmployeeAnalyticsController {
+
+    private final EmployeeService employeeService;
+
+    @GetMapping("/titles")
+    public ResponseEntity<List<TitleStatistics>> getTitleStatistics() {
+        log.info("Received request to get title statistics");
+        return fromSnapshot(employeeService, employeeService::getTitleStatistics);
+    }
+
+    @GetMapping("/age-bands")
+    public ResponseEntity<List<AgeBand>> getAgeBands() {
+        log.info("Received request to get age bands");
+        return fromSnapshot(employeeService, employeeService::getAgeBands);
+    }
+}
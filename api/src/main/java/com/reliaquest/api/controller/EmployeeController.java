@@ -5,9 +5,11 @@ import com.reliaquest.api.model.EmployeeInput;
 import com.reliaquest.api.service.EmployeeService;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,15 +21,19 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class EmployeeController implements IEmployeeController<Employee, EmployeeInput> {
 
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
     @Autowired
     private EmployeeService employeeService;
 
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
 
-        List<Employee> response = employeeService.getAllEmployees();
-        log.debug("employees {}", response.size());
-        return ResponseEntity.ok(response);
+        return fromSnapshot(employeeService, () -> {
+            List<Employee> response = employeeService.getAllEmployees();
+            log.debug("employees {}", response.size());
+            return response;
+        });
     }
 
     @Override
@@ -37,9 +43,11 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
             log.warn("Empty search string provided");
             return ResponseEntity.badRequest().build();
         }
-        List<Employee> employees = employeeService.getEmployeesByNameSearch(searchString.trim());
-        log.info("Found {} employees matching search: {}", employees.size(), searchString);
-        return ResponseEntity.ok(employees);
+        return fromSnapshot(employeeService, () -> {
+            List<Employee> employees = employeeService.getEmployeesByNameSearch(searchString.trim());
+            log.info("Found {} employees matching search: {}", employees.size(), searchString);
+            return employees;
+        });
     }
 
     @Override
@@ -57,15 +65,13 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
 
         log.info("Received request to get highest salary");
-        Integer highestSalary = employeeService.getHighestSalary();
-        return ResponseEntity.ok(highestSalary);
+        return fromSnapshot(employeeService, employeeService::getHighestSalary);
     }
 
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         log.info("Received request to get top 10 highest earning employee names");
-        List<String> topEarners = employeeService.getTopTenHighestEarningEmployeeNames();
-        return ResponseEntity.ok(topEarners);
+        return fromSnapshot(employeeService, employeeService::getTopTenHighestEarningEmployeeNames);
     }
 
     @Override
@@ -86,4 +92,23 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         String deletedEmployeeName = employeeService.deleteEmployeeById(id.trim());
         return ResponseEntity.ok(deletedEmployeeName);
     }
+
+    /**
+     * List-derived responses are served from the employee snapshot. They carry its ETag, so Spring answers a matching
+     * {@code If-None-Match} with a bodiless 304, and are flagged when that snapshot is stale.
+     */
+    static <T> ResponseEntity<T> fromSnapshot(EmployeeService employeeService, Supplier<T> body) {
+        // Tag first: the body can then only be newer than its tag, so a matching tag never hides a change. Before the
+        // first load there is no tag yet, and the response goes out without one.
+        String etag = employeeService.getSnapshotETag();
+        T result = body.get();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        if (employeeService.isServingStaleData()) {
+            response.header(HttpHeaders.WARNING, STALE_WARNING);
+        }
+        return response.body(result);
+    }
 }
@@ -1,14 +1,19 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.exception.CircuitOpenException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
 import com.reliaquest.api.exception.ValidationException;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
@@ -55,6 +60,36 @@ public class EmployeeControllerAdvice {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", ex.getMessage()));
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    protected ResponseEntity<?> handleArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        log.warn("Invalid request parameter: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Invalid value '" + ex.getValue() + "' for parameter '" + ex.getName() + "'"));
+    }
+
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    protected ResponseEntity<?> handleMissingParameter(MissingServletRequestParameterException ex) {
+        log.warn("Missing request parameter: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Missing required parameter '" + ex.getParameterName() + "'"));
+    }
+
+
+    @ExceptionHandler(UpstreamRateLimitedException.class)
+    protected ResponseEntity<?> handleUpstreamRateLimited(UpstreamRateLimitedException ex) {
+        log.warn("Rejected without calling the external service: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(Map.of("error", "Service temporarily unavailable - too many requests"));
+    }
+
+    @ExceptionHandler(CircuitOpenException.class)
+    protected ResponseEntity<?> handleCircuitOpen(CircuitOpenException ex) {
+        log.warn("Rejected without calling the external service: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(Map.of("error", "Service temporarily unavailable"));
+    }
 
     @ExceptionHandler(NoResourceFoundException.class)
     protected ResponseEntity<?> handleNoResourceFound(NoResourceFoundException ex) {
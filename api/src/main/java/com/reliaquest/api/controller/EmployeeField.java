@@ -0,0 +1,62 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The {@link Employee} properties a streaming export can be projected onto, under their JSON names. Writing them
+ * straight to the generator skips the per-object bean introspection a full {@code ObjectMapper} write would do.
+ */
+enum EmployeeField {
+    ID("id", Employee::getId),
+    NAME("employee_name", Employee::getEmployeeName),
+    SALARY("employee_salary", Employee::getEmployeeSalary),
+    AGE("employee_age", Employee::getEmployeeAge),
+    TITLE("employee_title", Employee::getEmployeeTitle),
+    EMAIL("employee_email", Employee::getEmployeeEmail);
+
+    private final String jsonName;
+
+    private final Function<Employee, Object> accessor;
+
+    EmployeeField(String jsonName, Function<Employee, Object> accessor) {
+        this.jsonName = jsonName;
+        this.accessor = accessor;
+    }
+
+    /**
+     * @param fields comma-separated JSON names; null or blank selects every field
+     * @throws IllegalArgumentException if a name is not an employee field
+     */
+    static Set<EmployeeField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(EmployeeField.class);
+        }
+        Set<EmployeeField> selected = EnumSet.noneOf(EmployeeField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            selected.add(Arrays.stream(values())
+                    .filter(field -> field.jsonName.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown employee field: " + trimmed)));
+        }
+        return selected;
+    }
+
+    void write(Employee employee, JsonGenerator generator) throws IOException {
+        generator.writeFieldName(jsonName);
+        Object value = accessor.apply(employee);
+        if (value instanceof Integer number) {
+            generator.writeNumber(number);
+        } else if (value != null) {
+            generator.writeString(value.toString());
+        } else {
+            generator.writeNull();
+        }
+    }
+}
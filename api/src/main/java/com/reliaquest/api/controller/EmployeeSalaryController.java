@@ -0,0 +1,62 @@
+package com.reliaquest.api.controller;
+
+import static com.reliaquest.api.controller.EmployeeController.fromSnapshot;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Salary order statistics answered from the snapshot's salary index, kept apart from {@link IEmployeeController}'s
+ * contract. Like the other list-derived responses they carry the snapshot's ETag and are flagged when it is stale.
+ */
+@RestController
+@RequestMapping("/api/v2/employee/salaries")
+@Slf4j
+@RequiredArgsConstructor
+public class EmployeeSalaryController {
+
+    private final EmployeeService employeeService;
+
+    /**
+     * @param n number of employees, from 1 to 1000
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<Employee>> getTopEarners(@RequestParam(value = "n", defaultValue = "10") int n) {
+        log.info("Received request to get top {} highest earners", n);
+        return fromSnapshot(employeeService, () -> employeeService.getTopEarners(n));
+    }
+
+    /**
+     * @param percentiles comma-separated percentiles from 0 to 100, e.g. {@code 50,90,99.9}
+     */
+    @GetMapping("/percentiles")
+    public ResponseEntity<Map<String, Integer>> getSalaryPercentiles(
+            @RequestParam(value = "p", defaultValue = "50,90,99") List<Double> percentiles) {
+        log.info("Received request to get salary percentiles {}", percentiles);
+        return fromSnapshot(employeeService, () -> employeeService.getSalaryPercentiles(percentiles));
+    }
+
+    /**
+     * @param min lowest salary to include; unbounded when omitted
+     * @param max highest salary to include; unbounded when omitted
+     */
+    @GetMapping("/range")
+    public ResponseEntity<List<Employee>> getEmployeesBySalaryRange(
+            @RequestParam(value = "min", required = false) Integer min,
+            @RequestParam(value = "max", required = false) Integer max) {
+        log.info("Received request to get employees earning between {} and {}", min, max);
+        return fromSnapshot(
+                employeeService,
+                () -> employeeService.getEmployeesBySalaryRange(
+                        min != null ? min : Integer.MIN_VALUE, max != null ? max : Integer.MAX_VALUE));
+    }
+}
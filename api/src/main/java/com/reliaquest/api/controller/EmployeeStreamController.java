@@ -0,0 +1,77 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Bulk export for batch consumers, kept apart from {@link IEmployeeController}'s contract.
+ */
+@RestController
+@RequestMapping("/api/v2/employee")
+@Slf4j
+@RequiredArgsConstructor
+public class EmployeeStreamController {
+
+    static final String NDJSON = "application/x-ndjson";
+
+    private final EmployeeService employeeService;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Streams the snapshot as newline-delimited JSON, one employee per line, instead of building one array in memory.
+     * Writes block once the client stops reading and the socket buffer is full, so a slow consumer holds back the
+     * producer rather than the heap. Only the generator's and the container's fixed-size buffers are held at any time.
+     * Carries the snapshot's ETag; a matching {@code If-None-Match} gets a bodiless 304.
+     *
+     * @param fields optional comma-separated JSON property names to project onto, e.g. {@code id,employee_salary}
+     */
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public void streamEmployees(
+            @RequestParam(value = "fields", required = false) String fields,
+            WebRequest request,
+            HttpServletResponse response)
+            throws IOException {
+        // Parsed before anything is written, so an unknown field still gets a clean 400.
+        Set<EmployeeField> projection = EmployeeField.parse(fields);
+        if (request.checkNotModified(employeeService.getSnapshotETag())) {
+            return;
+        }
+        List<Employee> employees = employeeService.getAllEmployees();
+        log.info("Streaming {} employees with fields {}", employees.size(), projection);
+
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (employeeService.isServingStaleData()) {
+            response.setHeader(HttpHeaders.WARNING, EmployeeController.STALE_WARNING);
+        }
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            // Lines are separated by hand; the default separator would indent every line after the first.
+            generator.setRootValueSeparator(null);
+            for (Employee employee : employees) {
+                generator.writeStartObject();
+                for (EmployeeField field : projection) {
+                    field.write(employee, generator);
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+    }
+}
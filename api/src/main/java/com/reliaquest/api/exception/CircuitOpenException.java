@@ -0,0 +1,18 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Thrown instead of calling the mock API while the circuit for that operation is open.
+ */
+@Getter
+public class CircuitOpenException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public CircuitOpenException(String operation, Duration retryAfter) {
+        super("Circuit for " + operation + " is open, retry after " + retryAfter.toSeconds() + "s");
+        this.retryAfter = retryAfter;
+    }
+}
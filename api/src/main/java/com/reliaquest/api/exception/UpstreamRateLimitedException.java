@@ -0,0 +1,18 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Thrown instead of calling the mock API when its request budget is known to be spent.
+ */
+@Getter
+public class UpstreamRateLimitedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamRateLimitedException(Duration retryAfter) {
+        super("Upstream request budget exhausted, retry after " + retryAfter.toSeconds() + "s");
+        this.retryAfter = retryAfter;
+    }
+}
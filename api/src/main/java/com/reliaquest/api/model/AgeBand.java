@@ -0,0 +1,16 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One bar of the employee age histogram.
+ *
+ * @param band e.g. {@code 30-39}, or {@code unknown} for employees without an age
+ * @param minAge null for the unknown band
+ * @param maxAge null for the unknown band and the open-ended top band
+ */
+public record AgeBand(
+        @JsonProperty("band") String band,
+        @JsonProperty("min_age") Integer minAge,
+        @JsonProperty("max_age") Integer maxAge,
+        @JsonProperty("headcount") int headcount) {}
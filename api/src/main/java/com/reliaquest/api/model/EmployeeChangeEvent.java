@@ -0,0 +1,31 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChangeEvent {
+
+    public static final String CREATED = "CREATED";
+
+    public static final String DELETED = "DELETED";
+
+    @JsonProperty("version")
+    private long version;
+
+    @JsonProperty("type")
+    private String type;
+
+    @JsonProperty("id")
+    private String id;
+
+    /**
+     * Present for {@link #CREATED} only.
+     */
+    @JsonProperty("employee")
+    private Employee employee;
+}
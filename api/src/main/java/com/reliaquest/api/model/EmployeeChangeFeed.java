@@ -0,0 +1,25 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChangeFeed {
+
+    @JsonProperty("epoch")
+    private String epoch;
+
+    /**
+     * The version to ask for changes since next time.
+     */
+    @JsonProperty("version")
+    private long version;
+
+    @JsonProperty("changes")
+    private List<EmployeeChangeEvent> changes;
+}
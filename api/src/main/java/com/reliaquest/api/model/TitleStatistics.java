@@ -0,0 +1,16 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Headcount and salary figures of the employees sharing one title.
+ *
+ * @param employeeTitle the title, or null for employees without one
+ * @param averageSalary rounded to cents; null when no employee with this title has a salary
+ * @param maxSalary null when no employee with this title has a salary
+ */
+public record TitleStatistics(
+        @JsonProperty("employee_title") String employeeTitle,
+        @JsonProperty("headcount") int headcount,
+        @JsonProperty("average_salary") Double averageSalary,
+        @JsonProperty("max_salary") Integer maxSalary) {}
@@ -1,158 +1,371 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeChange;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotStore;
+import com.reliaquest.api.cache.SalaryIndex;
+import com.reliaquest.api.cache.SingleFlight;
+import com.reliaquest.api.cache.SnapshotView;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.EmployeeDeletion;
+import com.reliaquest.api.exception.CircuitOpenException;
 import com.reliaquest.api.exception.ValidationException;
+import com.reliaquest.api.model.AgeBand;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
-import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.model.TitleStatistics;
+import com.reliaquest.api.timing.RequestPhase;
+import com.reliaquest.api.timing.RequestTimings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 
+import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.util.retry.Retry;
 
 @RequiredArgsConstructor
 @Service
 @Slf4j
 @Validated
-public class EmployeeService {
+public class EmployeeService implements MeterBinder {
 
-    @Getter
-    private final WebClient webClient;
+    /**
+     * Upper bound on {@link #getTopEarners}, which materializes every employee it returns.
+     */
+    static final int MAX_TOP_EARNERS = 1000;
 
-    @Getter
-    private final Retry defaultRetrySpec;
+    private static final String EMPLOYEES_CACHE = "employees";
+
+    private final EmployeeApiClient employeeApiClient;
+
+    private final EmployeeSnapshotStore employeeSnapshotStore;
 
     private final Validator validator;
 
-    private record DeleteRequest(String name) {}
+    private final CacheManager cacheManager;
 
-    @Value("${employee-v1.api.endpoints.default:}")
-    private String defaultEndpoint;
+    private final SingleFlight<String, Optional<Employee>> employeeByIdLoads = new SingleFlight<>();
 
-    @Value("${employee-v1.api.endpoints.get-by-id:/{id}}")
-    private String getByIdEndpoint;
+    private volatile MeterRegistry registry;
 
-    @Cacheable(value = "employees", key = "'all'")
+    /**
+     * Served from the refresh-ahead snapshot; only the very first call (or one after the snapshot has exceeded its max
+     * staleness) waits on the mock API.
+     */
     public List<Employee> getAllEmployees() {
+        return snapshot(SnapshotView.ALL).employees();
+    }
 
-        EmployeeResponse<List<Employee>> response = this.webClient
-                .get()
-                .uri(defaultEndpoint)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<EmployeeResponse<List<Employee>>>() {})
-                .retryWhen(defaultRetrySpec)
-                .block();
+    /**
+     * @return true if list-derived results currently come from a snapshot that could not be refreshed in time
+     */
+    public boolean isServingStaleData() {
+        return employeeSnapshotStore.isStale();
+    }
 
-        if (response != null && response.getData() != null) {
-            return response.getData();
-        }
-        return Collections.emptyList();
+    /**
+     * @return the ETag of the snapshot list-derived results are computed from, or null before the first load; read it
+     *     before the result. Never loads: a cold or too stale snapshot is loaded by the result's own read, which counts
+     *     the miss and charges the load to {@link RequestPhase#CACHE}.
+     */
+    public String getSnapshotETag() {
+        return employeeSnapshotStore.loadedETag();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
     }
 
-    @Cacheable(value = "employees", key = "#id")
+    /**
+     * Only runs on a by-ID cache miss; the time it takes is published as {@code employee.cache.load} with key
+     * {@code by-id}. Hits and misses themselves are counted by the cache ({@code cache.gets}).
+     */
+    @Cacheable(value = EMPLOYEES_CACHE, key = "#id")
     public Optional<Employee> getEmployeeById(String id) {
-        log.info("Fetching employee by ID: {}", id);
-        EmployeeResponse<Employee> response = this.webClient
-                .get()
-                .uri(getByIdEndpoint, id)
-                .retrieve()
-                .bodyToMono(new org.springframework.core.ParameterizedTypeReference<EmployeeResponse<Employee>>() {})
-                .retryWhen(defaultRetrySpec)
-                .block();
-        return Optional.ofNullable(response != null ? response.getData() : null);
-    }
-
-    @Cacheable(value = "employees", key = "'search_' + #searchString")
+        long start = System.nanoTime();
+        try {
+            return loadEmployeeById(id);
+        } finally {
+            MeterRegistry metrics = registry;
+            if (metrics != null) {
+                metrics.timer("employee.cache.load", "key", "by-id")
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private Optional<Employee> loadEmployeeById(String id) {
+        try {
+            // Concurrent misses share a single upstream call instead of each spending the mock API's request budget.
+            return employeeByIdLoads.load(id, () -> employeeApiClient.getEmployeeById(id));
+        } catch (CircuitOpenException ex) {
+            // The upstream is known to be failing; the last good snapshot is the best answer we have.
+            Optional<Employee> fromSnapshot = employeeSnapshotStore.findLoaded(id);
+            if (fromSnapshot.isPresent()) {
+                log.info("Circuit open, serving employee {} from snapshot", id);
+                return fromSnapshot;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * The current snapshot, with the time it took to get (a hit, or waiting on a load) charged to the request's
+     * {@link RequestPhase#CACHE} phase; the upstream calls of a load are charged to their own phase.
+     */
+    private EmployeeSnapshot snapshot(SnapshotView view) {
+        int phase = RequestTimings.enter(RequestPhase.CACHE);
+        try {
+            return employeeSnapshotStore.current(view);
+        } finally {
+            RequestTimings.exit(phase);
+        }
+    }
+
+    /**
+     * @return number of callers whose cache miss was served by another caller's in-flight upstream load
+     */
+    public long getCoalescedLoadCount() {
+        return employeeSnapshotStore.getCoalescedLoadCount() + employeeByIdLoads.getCoalescedCount();
+    }
+
+    /**
+     * Answered from the snapshot's trigram name index, which writes keep current, so no per-search cache entry is
+     * needed.
+     */
     public List<Employee> getEmployeesByNameSearch(String searchString) {
         log.info("Searching employees by name: {}", searchString);
-        List<Employee> allEmployees = getAllEmployees();
-        List<Employee> filteredEmployees = allEmployees.stream()
-                .filter(emp -> emp.getEmployeeName().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList());
+        EmployeeSnapshot snapshot = snapshot(SnapshotView.SEARCH);
+        List<Employee> filteredEmployees;
+        int phase = RequestTimings.enter(RequestPhase.COMPUTE);
+        try {
+            filteredEmployees = snapshot.searchByName(searchString);
+        } finally {
+            RequestTimings.exit(phase);
+        }
         log.info("Found {} employees matching search: {}", filteredEmployees.size(), searchString);
         return filteredEmployees;
     }
 
-    @Cacheable(value = "employees", key = "'highestSalary'")
+    /**
+     * Read off the top of the snapshot's salary index, which writes keep current, so no cache entry is needed.
+     */
     public Integer getHighestSalary() {
-        log.info("Calculating highest salary from cached data");
-        List<Employee> employees = getAllEmployees();
-        Integer highestSalary =
-                employees.stream().mapToInt(Employee::getEmployeeSalary).max().orElse(0);
-
+        EmployeeSnapshot snapshot = snapshot(SnapshotView.HIGHEST_SALARY);
+        Integer highestSalary;
+        int phase = RequestTimings.enter(RequestPhase.COMPUTE);
+        try {
+            highestSalary = snapshot.salaries().highestSalary();
+        } finally {
+            RequestTimings.exit(phase);
+        }
         log.info("Highest salary found: {}", highestSalary);
         return highestSalary;
     }
 
-    @Cacheable(value = "employees", key = "'top10'")
+    /**
+     * The first ten rows of the salary index; only their names are read and nothing is sorted.
+     */
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        log.info("Calculating top 10 highest earners from cached data");
-        List<Employee> employees = getAllEmployees();
-        List<String> topEarners = employees.stream()
-                .sorted(Comparator.comparing(Employee::getEmployeeSalary).reversed())
-                .limit(10)
-                .map(Employee::getEmployeeName)
-                .collect(Collectors.toList());
-
+        EmployeeSnapshot snapshot = snapshot(SnapshotView.TOP_TEN);
+        List<String> topEarners;
+        int phase = RequestTimings.enter(RequestPhase.COMPUTE);
+        try {
+            topEarners = snapshot.topEarnerNames(10);
+        } finally {
+            RequestTimings.exit(phase);
+        }
         log.info("Top 10 highest earners calculated: {}", topEarners.size());
         return topEarners;
     }
 
-    @CacheEvict(value = "employees", allEntries = true)
+    /**
+     * @param n number of employees, from 1 to {@value #MAX_TOP_EARNERS}
+     * @return the {@code n} highest earners, highest first; equal salaries in list order
+     */
+    public List<Employee> getTopEarners(int n) {
+        if (n < 1 || n > MAX_TOP_EARNERS) {
+            throw new ValidationException("n must be between 1 and " + MAX_TOP_EARNERS);
+        }
+        EmployeeSnapshot snapshot = snapshot(SnapshotView.TOP_EARNERS);
+        List<Employee> topEarners;
+        int phase = RequestTimings.enter(RequestPhase.COMPUTE);
+        try {
+            topEarners = snapshot.topEarners(n);
+        } finally {
+            RequestTimings.exit(phase);
+        }
+        log.info("Top {} highest earners calculated: {}", n, topEarners.size());
+        return topEarners;
+    }
+
+    /**
+     * Nearest-rank percentiles, each found by binary search over the salary index rather than by sorting.
+     *
+     * @param percentiles each from 0 to 100
+     * @return the salary at each percentile, keyed as {@code p50}, {@code p99.9} and so on in request order; null
+     *     values when no employee has a salary
+     */
+    public Map<String, Integer> getSalaryPercentiles(List<Double> percentiles) {
+        if (percentiles == null || percentiles.isEmpty()) {
+            throw new ValidationException("At least one percentile is required");
+        }
+        for (Double percentile : percentiles) {
+            if (percentile == null || !(percentile >= 0 && percentile <= 100)) {
+                throw new ValidationException("Percentiles must be between 0 and 100");
+            }
+        }
+        EmployeeSnapshot snapshot = snapshot(SnapshotView.PERCENTILES);
+        Map<String, Integer> salaries = new LinkedHashMap<>();
+        int phase = RequestTimings.enter(RequestPhase.COMPUTE);
+        try {
+            SalaryIndex index = snapshot.salaries();
+            for (Double percentile : percentiles) {
+                OptionalInt salary = index.percentile(percentile);
+                String key = "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+                salaries.put(key, salary.isPresent() ? salary.getAsInt() : null);
+            }
+        } finally {
+            RequestTimings.exit(phase);
+        }
+        log.info("Salary percentiles calculated: {}", salaries);
+        return salaries;
+    }
+
+    /**
+     * @return employees earning from {@code min} to {@code max}, both inclusive, highest first; equal salaries in list
+     *     order
+     */
+    public List<Employee> getEmployeesBySalaryRange(int min, int max) {
+        if (min > max) {
+            throw new ValidationException("min must not be greater than max");
+        }
+        EmployeeSnapshot snapshot = snapshot(SnapshotView.SALARY_RANGE);
+        List<Employee> employees;
+        int phase = RequestTimings.enter(RequestPhase.COMPUTE);
+        try {
+            employees = snapshot.employeesEarningBetween(min, max);
+        } finally {
+            RequestTimings.exit(phase);
+        }
+        log.info("Found {} employees earning between {} and {}", employees.size(), min, max);
+        return employees;
+    }
+
+    /**
+     * Headcount and average and highest salary per title, from the snapshot's aggregates, which are computed once per
+     * snapshot version.
+     */
+    public List<TitleStatistics> getTitleStatistics() {
+        EmployeeSnapshot snapshot = snapshot(SnapshotView.TITLE_STATISTICS);
+        List<TitleStatistics> titles;
+        int phase = RequestTimings.enter(RequestPhase.COMPUTE);
+        try {
+            titles = snapshot.aggregates().titles();
+        } finally {
+            RequestTimings.exit(phase);
+        }
+        log.info("Title statistics calculated: {} titles", titles.size());
+        return titles;
+    }
+
+    /**
+     * Headcount per decade of age, from the same memoized aggregates as {@link #getTitleStatistics}.
+     */
+    public List<AgeBand> getAgeBands() {
+        EmployeeSnapshot snapshot = snapshot(SnapshotView.AGE_BANDS);
+        List<AgeBand> ageBands;
+        int phase = RequestTimings.enter(RequestPhase.COMPUTE);
+        try {
+            ageBands = snapshot.aggregates().ageBands();
+        } finally {
+            RequestTimings.exit(phase);
+        }
+        log.info("Age bands calculated: {} bands", ageBands.size());
+        return ageBands;
+    }
+
+    /**
+     * The created employee is written through to the snapshot and the by-ID cache instead of invalidating either.
+     */
+    @CachePut(value = EMPLOYEES_CACHE, key = "#result.id")
     public Employee createEmployee(EmployeeInput input) {
         validateEmployeeInput(input);
         log.info("Creating new employee: {}", input.getName());
-        EmployeeResponse<Employee> response = this.webClient
-                .post()
-                .uri("")
-                .bodyValue(input)
-                .retrieve()
-                .bodyToMono(new org.springframework.core.ParameterizedTypeReference<EmployeeResponse<Employee>>() {})
-                .retryWhen(defaultRetrySpec)
-                .block();
+        Employee created = employeeApiClient
+                .createEmployee(input)
+                .orElseThrow(() -> new RuntimeException("Failed to create Employee"));
 
-        if (response != null && response.getData() != null) {
-            log.info("Successfully created employee: {}", response.getData().getEmployeeName());
-            return response.getData();
-        }
-       throw new RuntimeException("Failed to create Employee");
+        log.info("Successfully created employee: {}", created.getEmployeeName());
+        applyToSnapshot(EmployeeChange.created(created));
+        return created;
     }
 
-    @CacheEvict(value = "employees", allEntries = true)
+    @CacheEvict(value = EMPLOYEES_CACHE, key = "#id")
     public String deleteEmployeeById(String id) {
         log.info("Deleting employee by ID: {}", id);
 
-        // First get the employee to get the name.
-        Employee employee = getEmployeeById(id).orElseThrow(() -> new RuntimeException("Employee Not Found!"));
-        DeleteRequest payload = new DeleteRequest(employee.getEmployeeName());
-
-        // Note: delete by name
-        EmployeeResponse<Boolean> response = this.webClient
-                .method(HttpMethod.DELETE)
-                .uri("")
-                .bodyValue(payload)
-                .retrieve()
-                .bodyToMono(new org.springframework.core.ParameterizedTypeReference<EmployeeResponse<Boolean>>() {})
-                .retryWhen(defaultRetrySpec)
-                .block();
-
-        if (response != null && Boolean.TRUE.equals(response.getData())) {
-            log.info("Successfully deleted employee: {}", payload.name());
-            return payload.name;
-        }
-        throw  new RuntimeException("Failed to delete employee");
+        // The mock API deletes by name. Resolve it from the snapshot, which already knows every listed and created
+        // employee, and only look the employee up upstream for an ID we have never seen.
+        String name = employeeSnapshotStore
+                .findLoaded(id)
+                .or(() -> getEmployeeById(id))
+                .map(Employee::getEmployeeName)
+                .orElseThrow(() -> new RuntimeException("Employee Not Found!"));
+
+        // Note: delete by name. The mock API removes the oldest employee with that name, which need not be this one.
+        EmployeeDeletion deletion = employeeApiClient.deleteEmployeeByName(name);
+        if (!deletion.deleted()) {
+            throw new RuntimeException("Failed to delete employee");
+        }
+        log.info("Successfully deleted employee: {}", name);
+        if (deletion.id() != null) {
+            applyToSnapshot(EmployeeChange.deleted(deletion.id()));
+            if (!deletion.id().equals(id)) {
+                log.warn("Deleting {} by name removed employee {} instead", id, deletion.id());
+                evictEmployee(deletion.id());
+            }
+        } else if (employeeSnapshotStore.findLoadedByName(name).size() <= 1) {
+            applyToSnapshot(EmployeeChange.deleted(id));
+        } else {
+            // Several employees share the name and the upstream did not say which one it removed.
+            employeeSnapshotStore.invalidate();
+            try {
+                employeeSnapshotStore.current();
+            } catch (RuntimeException ex) {
+                log.warn("Employee snapshot reload after delete failed, next read retries: {}", ex.getMessage());
+            }
+        }
+        return name;
+    }
+
+    private void evictEmployee(String id) {
+        Cache cache = cacheManager.getCache(EMPLOYEES_CACHE);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+
+    private void applyToSnapshot(EmployeeChange change) {
+        int phase = RequestTimings.enter(RequestPhase.CACHE);
+        try {
+            employeeSnapshotStore.apply(change);
+        } finally {
+            RequestTimings.exit(phase);
+        }
     }
 
     private void validateEmployeeInput(EmployeeInput input) {
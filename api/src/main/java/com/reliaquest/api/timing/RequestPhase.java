@@ -0,0 +1,41 @@
+package com.reliaquest.api.timing;
+
+/**
+ * Where the time of a request to the employee API goes, as reported in {@code Server-Timing}.
+ */
+public enum RequestPhase {
+    /**
+     * Anything outside the phases below: framework dispatch, validation, controller code.
+     */
+    APP("app"),
+    /**
+     * Reading the employee snapshot, including waiting for it to load.
+     */
+    CACHE("cache"),
+    /**
+     * Blocked on the mock API, including retries and their backoff.
+     */
+    UPSTREAM("upstream"),
+    /**
+     * Parsing a mock API response body.
+     */
+    DECODE("decode"),
+    /**
+     * Working on the snapshot in memory: searching, ranking salaries.
+     */
+    COMPUTE("compute"),
+    /**
+     * Writing the response body.
+     */
+    SERIALIZE("serialize");
+
+    private final String metricName;
+
+    RequestPhase(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+}
@@ -0,0 +1,140 @@
+package com.reliaquest.api.timing;
+
+import java.util.Locale;
+
+/**
+ * Per-request breakdown of where the time went, by {@link RequestPhase}. Each moment is charged to exactly one phase,
+ * the innermost one entered, so the phases add up to the total instead of double counting nested ones (a snapshot
+ * load waiting on the upstream is upstream time, not cache time).
+ *
+ * <p>Code marks phases with {@link #enter} and {@link #exit}. Unless the current request is being timed these are a
+ * thread-local read and nothing else; in particular they allocate nothing.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private static final int NOT_TIMED = -1;
+
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final boolean headerEnabled;
+
+    private final long startedAt;
+
+    private final long[] nanos = new long[PHASES.length];
+
+    private int current = RequestPhase.APP.ordinal();
+
+    private long since;
+
+    private boolean finished;
+
+    private RequestTimings(boolean headerEnabled, long now) {
+        this.headerEnabled = headerEnabled;
+        this.startedAt = now;
+        this.since = now;
+    }
+
+    /**
+     * Starts timing the calling thread's request.
+     *
+     * @param headerEnabled whether the response should carry the breakdown in {@code Server-Timing}
+     */
+    public static RequestTimings start(boolean headerEnabled) {
+        RequestTimings timings = new RequestTimings(headerEnabled, System.nanoTime());
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * @return the timings of the calling thread's request, or null if it is not being timed
+     */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Charges time to {@code phase} from now on.
+     *
+     * @return token to hand to {@link #exit} to go back to the enclosing phase
+     */
+    public static int enter(RequestPhase phase) {
+        RequestTimings timings = CURRENT.get();
+        return timings != null ? timings.switchTo(phase.ordinal(), System.nanoTime()) : NOT_TIMED;
+    }
+
+    public static void exit(int token) {
+        if (token == NOT_TIMED) {
+            return;
+        }
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.switchTo(token, System.nanoTime());
+        }
+    }
+
+    /**
+     * Stops timing; everything after the last phase change is charged to that phase.
+     */
+    public void finish() {
+        switchTo(current, System.nanoTime());
+        finished = true;
+        CURRENT.remove();
+    }
+
+    public boolean isHeaderEnabled() {
+        return headerEnabled;
+    }
+
+    /**
+     * @return time charged to {@code phase} so far, or in total once finished
+     */
+    public long nanos(RequestPhase phase) {
+        return nanos(phase, now());
+    }
+
+    public long totalNanos() {
+        return now() - startedAt;
+    }
+
+    /**
+     * @return the phases so far that took any time, plus the total, e.g.
+     *     {@code cache;dur=0.041, compute;dur=0.310, app;dur=0.122, total;dur=0.473}
+     */
+    public String serverTiming() {
+        long now = now();
+        StringBuilder header = new StringBuilder();
+        for (RequestPhase phase : PHASES) {
+            long phaseNanos = nanos(phase, now);
+            if (phaseNanos > 0) {
+                appendMetric(header, phase.metricName(), phaseNanos);
+            }
+        }
+        appendMetric(header, "total", now - startedAt);
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+
+    private long nanos(RequestPhase phase, long now) {
+        return nanos[phase.ordinal()] + (current == phase.ordinal() ? now - since : 0);
+    }
+
+    private long now() {
+        return finished ? since : System.nanoTime();
+    }
+
+    private int switchTo(int phase, long now) {
+        int previous = current;
+        nanos[previous] += now - since;
+        current = phase;
+        since = now;
+        return previous;
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.api.timing;
+
+import com.reliaquest.api.controller.EmployeeAnalyticsController;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.controller.EmployeeControllerAdvice;
+import com.reliaquest.api.controller.EmployeeSalaryController;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds {@code Server-Timing} to {@link EmployeeController}, {@link EmployeeSalaryController} and
+ * {@link EmployeeAnalyticsController} responses of timed requests, and to the error responses of
+ * {@link EmployeeControllerAdvice}, so failed requests report where their time went too. It runs just before the body
+ * is written, the last point at which headers can still be set, and charges the rest of the request to serialization.
+ */
+@ControllerAdvice(
+        assignableTypes = {
+            EmployeeController.class,
+            EmployeeSalaryController.class,
+            EmployeeAnalyticsController.class,
+            EmployeeControllerAdvice.class
+        })
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            if (timings.isHeaderEnabled()) {
+                response.getHeaders().set(SERVER_TIMING, timings.serverTiming());
+            }
+            RequestTimings.enter(RequestPhase.SERIALIZE);
+        }
+        return body;
+    }
+}
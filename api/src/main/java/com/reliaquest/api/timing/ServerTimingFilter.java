@@ -0,0 +1,71 @@
+package com.reliaquest.api.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Times requests to the employee API by {@link RequestPhase} when the {@code Server-Timing} header is enabled or the
+ * request is sampled for the timing log. The header is added by {@link ServerTimingAdvice} just before the body is
+ * written; the log line, written once the response is complete, also has the serialization time.
+ */
+@Slf4j
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final String EMPLOYEE_API_PATH = "/api/v2/employee";
+
+    @Value("${employee-v1.server-timing.header-enabled:false}")
+    private boolean headerEnabled;
+
+    @Value("${employee-v1.server-timing.log-sample-rate:0.0}")
+    private double logSampleRate;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + EMPLOYEE_API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean sampled = logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate;
+        if (!headerEnabled && !sampled) {
+            chain.doFilter(request, response);
+            return;
+        }
+        RequestTimings timings = RequestTimings.start(headerEnabled);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            timings.finish();
+            if (sampled) {
+                log.info(
+                        "request_timing method={} uri={} status={} total_ms={} app_ms={} cache_ms={} upstream_ms={}"
+                                + " decode_ms={} compute_ms={} serialize_ms={}",
+                        request.getMethod(),
+                        request.getRequestURI(),
+                        response.getStatus(),
+                        millis(timings.totalNanos()),
+                        millis(timings.nanos(RequestPhase.APP)),
+                        millis(timings.nanos(RequestPhase.CACHE)),
+                        millis(timings.nanos(RequestPhase.UPSTREAM)),
+                        millis(timings.nanos(RequestPhase.DECODE)),
+                        millis(timings.nanos(RequestPhase.COMPUTE)),
+                        millis(timings.nanos(RequestPhase.SERIALIZE)));
+            }
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
@@ -92,4 +92,26 @@ class ApiApplicationTest {
         // Then
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
+
+    @Test
+    void getTopEarners_NonNumericCount_ShouldReturnBadRequest() {
+        // When
+        ResponseEntity<Map> response = restTemplate.getForEntity(getBaseUrl() + "/salaries/top?n=abc", Map.class);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Map.of("error", "Invalid value 'abc' for parameter 'n'"), response.getBody());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void getSalaryPercentiles_NonNumericPercentile_ShouldReturnBadRequest() {
+        // When
+        ResponseEntity<Map> response =
+                restTemplate.getForEntity(getBaseUrl() + "/salaries/percentiles?p=x", Map.class);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Map.of("error", "Invalid value 'x' for parameter 'p'"), response.getBody());
+    }
 }
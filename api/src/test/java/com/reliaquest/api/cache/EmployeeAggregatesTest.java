@@ -0,0 +1,112 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.AgeBand;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.TitleStatistics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class EmployeeAggregatesTest {
+
+    @Test
+    void titles_GroupedWithHeadcountAverageAndMax() {
+        // Given
+        EmployeeColumns columns = EmployeeColumns.of(List.of(
+                new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com"),
+                new Employee("2", "Jane Smith", 75001, 28, "Developer", "jane@company.com"),
+                new Employee("3", "Bob Johnson", 90000, 35, "Tech Lead", "bob@company.com"),
+                new Employee("4", "Ann Lee", null, 22, "Intern", "ann@company.com"),
+                new Employee("5", "Max Roe", 40000, 61, null, "max@company.com")));
+
+        // When
+        List<TitleStatistics> titles = EmployeeAggregates.of(columns).titles();
+
+        // Then
+        assertEquals(
+                List.of(
+                        new TitleStatistics("Developer", 2, 62500.5, 75001),
+                        new TitleStatistics("Intern", 1, null, null),
+                        new TitleStatistics("Tech Lead", 1, 90000.0, 90000),
+                        new TitleStatistics(null, 1, 40000.0, 40000)),
+                titles);
+    }
+
+    @Test
+    void ageBands_ContiguousDecadesThenUnknown() {
+        // Given
+        EmployeeColumns columns = EmployeeColumns.of(List.of(
+                new Employee("1", "John Doe", 50000, 29, "Developer", "john@company.com"),
+                new Employee("2", "Jane Smith", 75000, 20, "Developer", "jane@company.com"),
+                new Employee("3", "Bob Johnson", 90000, 45, "Tech Lead", "bob@company.com"),
+                new Employee("4", "Ann Lee", 30000, null, "Intern", "ann@company.com"),
+                new Employee("5", "Old Timer", 30000, 104, "Advisor", "old@company.com")));
+
+        // When
+        List<AgeBand> ageBands = EmployeeAggregates.of(columns).ageBands();
+
+        // Then
+        assertEquals(
+                List.of(
+                        new AgeBand("20-29", 20, 29, 2),
+                        new AgeBand("30-39", 30, 39, 0),
+                        new AgeBand("40-49", 40, 49, 1),
+                        new AgeBand("50-59", 50, 59, 0),
+                        new AgeBand("60-69", 60, 69, 0),
+                        new AgeBand("70-79", 70, 79, 0),
+                        new AgeBand("80-89", 80, 89, 0),
+                        new AgeBand("90+", 90, null, 1),
+                        new AgeBand("unknown", null, null, 1)),
+                ageBands);
+    }
+
+    @Test
+    void of_NoEmployees_Empty() {
+        EmployeeAggregates aggregates = EmployeeAggregates.of(EmployeeColumns.of(List.of()));
+
+        assertTrue(aggregates.titles().isEmpty());
+        assertTrue(aggregates.ageBands().isEmpty());
+    }
+
+    @Test
+    void of_LargeTableWithDeletes_ParallelCountsMatchEmployees() {
+        // Given - enough rows to be split into several fork/join tasks
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EmployeeAggregates.ROWS_PER_TASK * 3 + 17; i++) {
+            Integer salary = random.nextInt(20) == 0 ? null : 30000 + random.nextInt(100000);
+            String title = random.nextInt(50) == 0 ? null : "Title " + random.nextInt(12);
+            employees.add(new Employee("id-" + i, "Worker " + i, salary, 18 + random.nextInt(50), title, "w@x.com"));
+        }
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+        for (int i = 0; i < 50; i++) {
+            columns = columns.without("id-" + i * 1000);
+        }
+        List<Employee> live = columns.employees();
+
+        // When
+        List<TitleStatistics> titles = EmployeeAggregates.of(columns).titles();
+
+        // Then
+        Map<String, List<Employee>> byTitle = live.stream()
+                .collect(Collectors.groupingBy(employee -> String.valueOf(employee.getEmployeeTitle())));
+        assertEquals(byTitle.size(), titles.size());
+        for (TitleStatistics title : titles) {
+            List<Employee> group = byTitle.get(String.valueOf(title.employeeTitle()));
+            assertEquals(group.size(), title.headcount());
+            assertEquals(
+                    group.stream()
+                            .filter(employee -> employee.getEmployeeSalary() != null)
+                            .mapToInt(Employee::getEmployeeSalary)
+                            .max()
+                            .getAsInt(),
+                    title.maxSalary());
+        }
+        assertEquals(live.size(), titles.stream().mapToInt(TitleStatistics::headcount).sum());
+    }
+}
@@ -0,0 +1,132 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeColumnsTest {
+
+    private Employee john;
+    private Employee jane;
+    private Employee bob;
+    private EmployeeColumns columns;
+
+    @BeforeEach
+    void setUp() {
+        john = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
+        jane = new Employee("2", "Jane Smith", 75000, 28, "Senior Developer", "jane@company.com");
+        bob = new Employee("3", "Bob Johnson", 90000, 35, "Tech Lead", "bob@company.com");
+        columns = EmployeeColumns.of(List.of(john, jane, bob));
+    }
+
+    @Test
+    void employees_RoundTripsEveryField() {
+        // Given
+        Employee noDomain = new Employee("4", "Ann Lee", null, null, null, "ann.lee");
+        Employee noEmail = new Employee("5", "Max Roe", 1, 70, "Developer", null);
+        Employee otherDomain = new Employee("6", "Eve Fox", 2, 50, "Developer", "eve@example.org");
+
+        // When
+        EmployeeColumns mixed = EmployeeColumns.of(List.of(john, noDomain, noEmail, otherDomain));
+
+        // Then
+        assertEquals(List.of(john, noDomain, noEmail, otherDomain), mixed.employees());
+    }
+
+    @Test
+    void salary_MissingSalary_ReadsAsNoValue() {
+        // When
+        columns = columns.with(new Employee("4", "Alice Brown", null, 40, "Architect", "alice@company.com"));
+
+        // Then
+        assertEquals(4, columns.count());
+        assertEquals(90000, columns.salary(2));
+        assertEquals(EmployeeColumns.NO_VALUE, columns.salary(3));
+    }
+
+    @Test
+    void with_ExistingId_ReturnsSameTable() {
+        assertSame(columns, columns.with(new Employee("1", "Someone Else", 1, 20, "Intern", "x@company.com")));
+    }
+
+    @Test
+    void with_OlderVersion_DoesNotDisturbNewerOne() {
+        // Given
+        EmployeeColumns older = columns;
+        EmployeeColumns newer = columns.with(new Employee("4", "Alice Brown", 60000, 40, "Architect", "a@company.com"));
+
+        // When
+        EmployeeColumns branched = older.with(new Employee("5", "Carl Diaz", 65000, 45, "Manager", "c@company.com"));
+
+        // Then
+        assertEquals(List.of("Alice Brown"), names(newer.employees().subList(3, 4)));
+        assertEquals(List.of("Carl Diaz"), names(branched.employees().subList(3, 4)));
+        assertEquals(3, older.count());
+        assertTrue(older.find("4") < 0);
+    }
+
+    @Test
+    void without_RemovedFromThisVersionOnly() {
+        // When
+        EmployeeColumns removed = columns.without("3");
+
+        // Then
+        assertEquals(2, removed.count());
+        assertEquals(List.of(john, jane), removed.employees());
+        assertEquals(List.of(john, jane, bob), columns.employees());
+    }
+
+    @Test
+    void without_ThenRecreated_FoundAgain() {
+        // When
+        columns = columns.without("2").with(jane);
+
+        // Then
+        assertEquals(List.of(john, bob, jane), columns.employees());
+        assertEquals(jane, columns.employee(columns.find("2")));
+    }
+
+    @Test
+    void without_ManyRows_CompactsAndRenumbers() {
+        // Given
+        List<Employee> created = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            created.add(new Employee("new-" + i, "Temp Worker " + i, 80000 + i, 25, "Intern", "temp@company.com"));
+        }
+        for (Employee employee : created) {
+            columns = columns.with(employee);
+        }
+        int layout = columns.layout();
+
+        // When
+        for (Employee employee : created.subList(0, 900)) {
+            columns = columns.without(employee.getId());
+        }
+
+        // Then
+        assertNotEquals(layout, columns.layout());
+        assertEquals(103, columns.count());
+        assertEquals(created.get(999), columns.employee(columns.find("new-999")));
+        List<String> names = names(columns.employees());
+        assertEquals(List.of("John Doe", "Jane Smith", "Bob Johnson", "Temp Worker 900"), names.subList(0, 4));
+    }
+
+    @Test
+    void countDifferences_ComparesColumnsAcrossDictionaries() {
+        // Given - titles are encoded in a different order upstream
+        EmployeeColumns upstream = EmployeeColumns.of(
+                List.of(bob, new Employee("1", "John Doe", 50000, 30, "Senior Developer", "john@company.com"), jane));
+
+        // Then - only John's title differs
+        assertEquals(1, columns.countDifferences(upstream));
+        assertEquals(0, columns.countDifferences(EmployeeColumns.of(List.of(bob, jane, john))));
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmployeeName).toList();
+    }
+}
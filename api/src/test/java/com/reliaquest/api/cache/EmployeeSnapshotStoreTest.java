@@ -0,0 +1,398 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.ChangeCursor;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.EmployeeListResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChangeEvent;
+import com.reliaquest.api.model.EmployeeChangeFeed;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSnapshotStoreTest {
+
+    @Mock
+    private EmployeeApiClient employeeApiClient;
+
+    @InjectMocks
+    private EmployeeSnapshotStore employeeSnapshotStore;
+
+    private List<Employee> testEmployees;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(employeeSnapshotStore, "refreshAheadEnabled", true);
+        ReflectionTestUtils.setField(employeeSnapshotStore, "refreshIntervalMs", 60_000L);
+        ReflectionTestUtils.setField(employeeSnapshotStore, "refreshJitterMs", 0L);
+        ReflectionTestUtils.setField(employeeSnapshotStore, "maxStalenessMs", 600_000L);
+        ReflectionTestUtils.setField(employeeSnapshotStore, "failureRetryDelayMs", 30_000L);
+
+        testEmployees = List.of(
+                new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com"),
+                new Employee("2", "Jane Smith", 75000, 28, "Senior Developer", "jane@company.com"));
+    }
+
+    @Test
+    void current_LoadsOnceThenServesSnapshot() {
+        // Given
+        when(employeeApiClient.getAllEmployeesIfChanged(any())).thenReturn(modified(testEmployees));
+
+        // When
+        EmployeeSnapshot first = employeeSnapshotStore.current();
+        EmployeeSnapshot second = employeeSnapshotStore.current();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(2, second.employees().size());
+        assertFalse(employeeSnapshotStore.isStale());
+        verify(employeeApiClient, times(1)).getAllEmployeesIfChanged(any());
+    }
+
+    @Test
+    void refreshIfDue_NotDue_DoesNotCallUpstream() {
+        // Given
+        when(employeeApiClient.getAllEmployeesIfChanged(any())).thenReturn(modified(testEmployees));
+        employeeSnapshotStore.current();
+
+        // When
+        employeeSnapshotStore.refreshIfDue();
+
+        // Then
+        verify(employeeApiClient, times(1)).getAllEmployeesIfChanged(any());
+    }
+
+    @Test
+    void refreshIfDue_UpstreamFails_ServesLastGoodSnapshotAsStale() {
+        // Given
+        when(employeeApiClient.getAllEmployeesIfChanged(any()))
+                .thenReturn(modified(testEmployees))
+                .thenThrow(new RuntimeException("Retries exhausted: 5/5"));
+        EmployeeSnapshot loaded = employeeSnapshotStore.current();
+        makeRefreshDue();
+
+        // When
+        employeeSnapshotStore.refreshIfDue();
+
+        // Then
+        assertSame(loaded, employeeSnapshotStore.current());
+        assertTrue(employeeSnapshotStore.isStale());
+        verify(employeeApiClient, times(2)).getAllEmployeesIfChanged(any());
+    }
+
+    @Test
+    void apply_CreateAndDelete_PatchSnapshotWithoutReload() {
+        // Given
+        Employee created = new Employee("3", "Bob Johnson", 90000, 35, "Tech Lead", "bob@company.com");
+        when(employeeApiClient.getAllEmployeesIfChanged(any())).thenReturn(modified(testEmployees));
+        employeeSnapshotStore.current();
+
+        // When
+        employeeSnapshotStore.apply(EmployeeChange.created(created));
+        employeeSnapshotStore.apply(EmployeeChange.deleted("1"));
+        employeeSnapshotStore.refreshIfDue();
+
+        // Then
+        EmployeeSnapshot snapshot = employeeSnapshotStore.current();
+        assertEquals(List.of(testEmployees.get(1), created), snapshot.employees());
+        assertEquals(90000, snapshot.salaries().highestSalary());
+        assertEquals(List.of(created), snapshot.searchByName("bob"));
+        assertTrue(snapshot.searchByName("john doe").isEmpty());
+        verify(employeeApiClient, times(1)).getAllEmployeesIfChanged(any());
+    }
+
+    @Test
+    void refreshIfDue_SnapshotDrifted_ReconciledWithUpstream() {
+        // Given
+        Employee createdElsewhere = new Employee("3", "Bob Johnson", 90000, 35, "Tech Lead", "bob@company.com");
+        when(employeeApiClient.getAllEmployeesIfChanged(any()))
+                .thenReturn(modified(testEmployees))
+                .thenReturn(modified(List.of(testEmployees.get(0), testEmployees.get(1), createdElsewhere)));
+        employeeSnapshotStore.current();
+        makeRefreshDue();
+
+        // When
+        employeeSnapshotStore.refreshIfDue();
+
+        // Then
+        assertEquals(3, employeeSnapshotStore.current().employees().size());
+        assertEquals(1, employeeSnapshotStore.getReconciledDriftCount());
+        assertFalse(employeeSnapshotStore.isStale());
+    }
+
+    @Test
+    void refreshIfDue_Disabled_DoesNothing() {
+        // Given
+        ReflectionTestUtils.setField(employeeSnapshotStore, "refreshAheadEnabled", false);
+
+        // When
+        employeeSnapshotStore.refreshIfDue();
+
+        // Then
+        verifyNoInteractions(employeeApiClient);
+    }
+
+    @Test
+    void refreshIfDue_UpstreamUnchanged_KeepsSnapshotAfterConditionalRequest() {
+        // Given
+        when(employeeApiClient.getAllEmployeesIfChanged(isNull()))
+                .thenReturn(EmployeeListResponse.modified(testEmployees, "\"v1\""));
+        when(employeeApiClient.getAllEmployeesIfChanged("\"v1\""))
+                .thenReturn(EmployeeListResponse.notModified("\"v1\""));
+        EmployeeSnapshot loaded = employeeSnapshotStore.current();
+        String etag = loaded.etag();
+        makeRefreshDue();
+
+        // When
+        employeeSnapshotStore.refreshIfDue();
+
+        // Then
+        assertSame(loaded, employeeSnapshotStore.current());
+        assertEquals(etag, employeeSnapshotStore.current().etag());
+        assertEquals(1, employeeSnapshotStore.getNotModifiedRefreshCount());
+        assertFalse(employeeSnapshotStore.isStale());
+        verify(employeeApiClient).getAllEmployeesIfChanged("\"v1\"");
+    }
+
+    @Test
+    void refreshIfDue_WithChangeCursor_AppliesOnlyTheChanges() {
+        // Given
+        ReflectionTestUtils.setField(employeeSnapshotStore, "changeFeedEnabled", true);
+        ChangeCursor cursor = new ChangeCursor("e1", 5);
+        Employee created = new Employee("3", "Bob Johnson", 90000, 35, "Tech Lead", "bob@company.com");
+        when(employeeApiClient.getAllEmployeesIfChanged(any()))
+                .thenReturn(EmployeeListResponse.modified(testEmployees, "\"v5\"", cursor));
+        when(employeeApiClient.getChangesSince(cursor))
+                .thenReturn(Optional.of(new EmployeeChangeFeed(
+                        "e1",
+                        7,
+                        List.of(
+                                new EmployeeChangeEvent(6, EmployeeChangeEvent.CREATED, "3", created),
+                                new EmployeeChangeEvent(7, EmployeeChangeEvent.DELETED, "1", null)))));
+        EmployeeSnapshot loaded = employeeSnapshotStore.current();
+        makeRefreshDue();
+
+        // When
+        employeeSnapshotStore.refreshIfDue();
+
+        // Then
+        assertSame(loaded, employeeSnapshotStore.current());
+        assertEquals(List.of(testEmployees.get(1), created), loaded.employees());
+        assertEquals(1, employeeSnapshotStore.getIncrementalSyncCount());
+        assertEquals(new ChangeCursor("e1", 7), ReflectionTestUtils.getField(employeeSnapshotStore, "changeCursor"));
+        verify(employeeApiClient, times(1)).getAllEmployeesIfChanged(any());
+    }
+
+    @Test
+    void refreshIfDue_ChangesNoLongerRetained_ReloadsFullList() {
+        // Given
+        ReflectionTestUtils.setField(employeeSnapshotStore, "changeFeedEnabled", true);
+        ChangeCursor cursor = new ChangeCursor("e1", 5);
+        when(employeeApiClient.getAllEmployeesIfChanged(any()))
+                .thenReturn(EmployeeListResponse.modified(testEmployees, null, cursor))
+                .thenReturn(EmployeeListResponse.modified(
+                        List.of(testEmployees.get(0)), null, new ChangeCursor("e2", 0)));
+        when(employeeApiClient.getChangesSince(cursor)).thenReturn(Optional.empty());
+        employeeSnapshotStore.current();
+        makeRefreshDue();
+
+        // When
+        employeeSnapshotStore.refreshIfDue();
+
+        // Then
+        assertEquals(List.of(testEmployees.get(0)), employeeSnapshotStore.current().employees());
+        assertEquals(1, employeeSnapshotStore.getFullResyncCount());
+        assertEquals(new ChangeCursor("e2", 0), ReflectionTestUtils.getField(employeeSnapshotStore, "changeCursor"));
+        verify(employeeApiClient, times(2)).getAllEmployeesIfChanged(any());
+    }
+
+    @Test
+    void reconcile_SnapshotBrokenWhileFeedAndEtagSayUnchanged_RepairedByFullReload() {
+        // Given - refreshes go through the change feed, which has nothing new, and the list is unchanged upstream
+        ReflectionTestUtils.setField(employeeSnapshotStore, "changeFeedEnabled", true);
+        ReflectionTestUtils.setField(employeeSnapshotStore, "reconcileEnabled", true);
+        ChangeCursor cursor = new ChangeCursor("e1", 5);
+        when(employeeApiClient.getAllEmployeesIfChanged(any()))
+                .thenReturn(EmployeeListResponse.modified(testEmployees, "\"v5\"", cursor));
+        when(employeeApiClient.getChangesSince(cursor))
+                .thenReturn(Optional.of(new EmployeeChangeFeed("e1", 5, List.of())));
+        employeeSnapshotStore.current();
+
+        // When - a local delete the upstream never made breaks the snapshot, and a refresh does not notice
+        employeeSnapshotStore.apply(EmployeeChange.deleted("1"));
+        makeRefreshDue();
+        employeeSnapshotStore.refreshIfDue();
+        List<Employee> afterRefresh = employeeSnapshotStore.current().employees();
+        employeeSnapshotStore.reconcile();
+
+        // Then
+        assertEquals(List.of(testEmployees.get(1)), afterRefresh);
+        assertEquals(testEmployees, employeeSnapshotStore.current().employees());
+        assertEquals(1, employeeSnapshotStore.getReconciledDriftCount());
+        verify(employeeApiClient, times(2)).getAllEmployeesIfChanged(null);
+        verify(employeeApiClient, never()).getAllEmployeesIfChanged("\"v5\"");
+    }
+
+    @Test
+    void reconcile_NoSnapshotYet_DoesNothing() {
+        // Given
+        ReflectionTestUtils.setField(employeeSnapshotStore, "reconcileEnabled", true);
+
+        // When
+        employeeSnapshotStore.reconcile();
+
+        // Then
+        verifyNoInteractions(employeeApiClient);
+    }
+
+    @Test
+    void findLoadedByName_ExactNameIgnoringCase() {
+        // Given
+        when(employeeApiClient.getAllEmployeesIfChanged(any()))
+                .thenReturn(modified(List.of(
+                        testEmployees.get(0),
+                        testEmployees.get(1),
+                        new Employee("3", "john doe", 60000, 41, "Architect", "jdoe@company.com"),
+                        new Employee("4", "John Doerr", 70000, 52, "Manager", "doerr@company.com"))));
+        employeeSnapshotStore.current();
+
+        // When
+        List<Employee> found = employeeSnapshotStore.findLoadedByName("JOHN DOE");
+
+        // Then
+        assertEquals(List.of("1", "3"), found.stream().map(Employee::getId).toList());
+        assertTrue(employeeSnapshotStore.findLoadedByName("Nobody").isEmpty());
+    }
+
+    @Test
+    void invalidate_NextReadReloadsFullList() {
+        // Given
+        when(employeeApiClient.getAllEmployeesIfChanged(any()))
+                .thenReturn(EmployeeListResponse.modified(testEmployees, "\"v1\""))
+                .thenReturn(EmployeeListResponse.modified(List.of(testEmployees.get(1)), "\"v2\""));
+        employeeSnapshotStore.current();
+
+        // When
+        employeeSnapshotStore.invalidate();
+
+        // Then
+        assertEquals(List.of(testEmployees.get(1)), employeeSnapshotStore.current().employees());
+        verify(employeeApiClient, times(2)).getAllEmployeesIfChanged(null);
+    }
+
+    @Test
+    void invalidate_WhileReloadInFlight_ReloadedListNotKept() {
+        // Given - the snapshot is invalidated while the upstream is still answering a reload
+        when(employeeApiClient.getAllEmployeesIfChanged(any()))
+                .thenAnswer(invocation -> {
+                    employeeSnapshotStore.invalidate();
+                    return modified(testEmployees);
+                })
+                .thenReturn(modified(List.of(testEmployees.get(1))));
+
+        // When
+        EmployeeSnapshot inFlight = employeeSnapshotStore.current();
+        EmployeeSnapshot next = employeeSnapshotStore.current();
+
+        // Then - the callers of the reload get its list, but the next read loads again
+        assertEquals(testEmployees, inFlight.employees());
+        assertEquals(List.of(testEmployees.get(1)), next.employees());
+        verify(employeeApiClient, times(2)).getAllEmployeesIfChanged(any());
+    }
+
+    @Test
+    void current_ForView_CountsHitsAndMissesAndTimesLoads() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        employeeSnapshotStore.bindTo(registry);
+        when(employeeApiClient.getAllEmployeesIfChanged(any())).thenReturn(modified(testEmployees));
+
+        // When - the first read has to load, the others are served from the snapshot
+        employeeSnapshotStore.current(SnapshotView.ALL);
+        employeeSnapshotStore.current(SnapshotView.ALL);
+        employeeSnapshotStore.current(SnapshotView.TOP_TEN);
+
+        // Then
+        assertEquals(1, gets(registry, "all", "miss"));
+        assertEquals(1, gets(registry, "all", "hit"));
+        assertEquals(1, gets(registry, "top10", "hit"));
+        assertEquals(0, gets(registry, "search", "miss"));
+        assertEquals(1, registry.get("employee.cache.load").tag("key", "all").timer().count());
+        assertEquals(1, registry.get("employee.snapshot.refresh").tag("type", "full").timer().count());
+    }
+
+    @Test
+    void loadedETag_NoSnapshotYet_NullWithoutLoading() {
+        // When
+        String etag = employeeSnapshotStore.loadedETag();
+
+        // Then
+        assertNull(etag);
+        verifyNoInteractions(employeeApiClient);
+    }
+
+    @Test
+    void loadedETag_ReadBeforeColdView_ViewStillCountedAndTimedAsMiss() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        employeeSnapshotStore.bindTo(registry);
+        when(employeeApiClient.getAllEmployeesIfChanged(any())).thenReturn(modified(testEmployees));
+
+        // When - what a list request does: tag first, then the body
+        employeeSnapshotStore.loadedETag();
+        EmployeeSnapshot loaded = employeeSnapshotStore.current(SnapshotView.ALL);
+
+        // Then
+        assertEquals(1, gets(registry, "all", "miss"));
+        assertEquals(0, gets(registry, "all", "hit"));
+        assertEquals(1, registry.get("employee.cache.load").tag("key", "all").timer().count());
+        assertEquals(loaded.etag(), employeeSnapshotStore.loadedETag());
+    }
+
+    @Test
+    void loadedETag_PastMaxStaleness_OldTagAndViewCountedAsMiss() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        employeeSnapshotStore.bindTo(registry);
+        when(employeeApiClient.getAllEmployeesIfChanged(any())).thenReturn(modified(testEmployees));
+        String first = employeeSnapshotStore.current().etag();
+        ReflectionTestUtils.setField(employeeSnapshotStore, "maxStalenessMs", -1L);
+
+        // When
+        String etag = employeeSnapshotStore.loadedETag();
+        employeeSnapshotStore.current(SnapshotView.ALL);
+
+        // Then
+        assertEquals(first, etag);
+        assertEquals(1, gets(registry, "all", "miss"));
+        verify(employeeApiClient, times(2)).getAllEmployeesIfChanged(any());
+    }
+
+    private static double gets(SimpleMeterRegistry registry, String key, String result) {
+        return registry.get("employee.cache.gets")
+                .tag("key", key)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private static EmployeeListResponse modified(List<Employee> employees) {
+        return EmployeeListResponse.modified(employees, null);
+    }
+
+    private void makeRefreshDue() {
+        ReflectionTestUtils.setField(employeeSnapshotStore, "nextRefreshAt", Instant.EPOCH);
+    }
+}
@@ -0,0 +1,121 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSnapshotTest {
+
+    private Employee john;
+    private Employee jane;
+    private EmployeeSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        john = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
+        jane = new Employee("2", "Jane Smith", 75000, 28, "Senior Developer", "jane@company.com");
+        snapshot = EmployeeSnapshot.of(List.of(john, jane), Instant.now());
+    }
+
+    @Test
+    void apply_DuplicateCreate_Ignored() {
+        // When
+        boolean changed = snapshot.apply(EmployeeChange.created(john));
+
+        // Then
+        assertFalse(changed);
+        assertEquals(2, snapshot.employees().size());
+    }
+
+    @Test
+    void apply_DeleteUnknownId_Ignored() {
+        assertFalse(snapshot.apply(EmployeeChange.deleted("unknown")));
+        assertEquals(List.of(john, jane), snapshot.employees());
+    }
+
+    @Test
+    void apply_DeleteHighestEarner_ViewsUpdated() {
+        // When
+        boolean changed = snapshot.apply(EmployeeChange.deleted("2"));
+
+        // Then
+        assertTrue(changed);
+        assertEquals(List.of(john), snapshot.employees());
+        assertEquals(50000, snapshot.salaries().highestSalary());
+        assertTrue(snapshot.searchByName("jane").isEmpty());
+    }
+
+    @Test
+    void apply_ManyCreatesAndDeletes_SalaryQueriesStayCurrent() {
+        // Given
+        for (int i = 0; i < 2000; i++) {
+            snapshot.apply(EmployeeChange.created(
+                    new Employee("new-" + i, "Temp Worker " + i, 60000 + i, 25, "Intern", "temp@company.com")));
+        }
+
+        // When - past the salary index's pending changes, then enough deletes to renumber the rows
+        for (int i = 0; i < 1990; i++) {
+            snapshot.apply(EmployeeChange.deleted("new-" + i));
+        }
+
+        // Then
+        assertEquals(List.of("Jane Smith", "Temp Worker 1999", "Temp Worker 1998"), names(snapshot.topEarners(3)));
+        assertEquals(List.of(jane), snapshot.employeesEarningBetween(70000, 80000));
+        assertEquals(12, snapshot.salaries().count());
+        assertEquals(61990, snapshot.salaries().percentile(10).getAsInt());
+    }
+
+        @Test
+    void aggregates_MemoizedUntilNextChange() {
+        // Given
+        EmployeeAggregates first = snapshot.aggregates();
+
+        // When
+        EmployeeAggregates repeated = snapshot.aggregates();
+        snapshot.apply(EmployeeChange.deleted("1"));
+        EmployeeAggregates afterDelete = snapshot.aggregates();
+
+        // Then
+        assertSame(first, repeated);
+        assertNotSame(first, afterDelete);
+        assertEquals(2, first.titles().size());
+        assertEquals("Senior Developer", afterDelete.titles().get(0).employeeTitle());
+        assertEquals(1, afterDelete.titles().size());
+    }
+
+    @Test
+    void etag_ChangesOnlyWhenContentChanges() {
+        // Given
+        String before = snapshot.etag();
+
+        // When
+        snapshot.apply(EmployeeChange.deleted("unknown"));
+        String afterNoOp = snapshot.etag();
+        snapshot.apply(EmployeeChange.deleted("2"));
+
+        // Then
+        assertEquals(before, afterNoOp);
+        assertNotEquals(before, snapshot.etag());
+        assertNotEquals(before, EmployeeSnapshot.of(List.of(john, jane), Instant.now()).etag());
+    }
+
+    @Test
+    void countDifferences_AddedRemovedAndModified() {
+        // Given
+        Employee raised = new Employee("1", "John Doe", 55000, 30, "Developer", "john@company.com");
+        Employee bob = new Employee("3", "Bob Johnson", 90000, 35, "Tech Lead", "bob@company.com");
+        EmployeeSnapshot upstream = EmployeeSnapshot.of(List.of(raised, bob), Instant.now());
+
+        // Then - John modified, Bob added, Jane removed
+        assertEquals(3, snapshot.countDifferences(upstream));
+        assertEquals(0, snapshot.countDifferences(EmployeeSnapshot.of(List.of(john, jane), Instant.now())));
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmployeeName).toList();
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+    private Employee john;
+    private Employee jane;
+    private Employee bob;
+    private EmployeeColumns columns;
+    private NameIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        john = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
+        jane = new Employee("2", "Jane Smith", 75000, 28, "Senior Developer", "jane@company.com");
+        bob = new Employee("3", "Bob Johnson", 90000, 35, "Tech Lead", "bob@company.com");
+        columns = EmployeeColumns.of(List.of(john, jane, bob));
+        nameIndex = NameIndex.of(columns);
+    }
+
+    @Test
+    void search_CaseInsensitive() {
+        assertEquals(List.of(john, bob), search("JOHN"));
+    }
+
+    @Test
+    void search_ShortQuery_ScansAllNames() {
+        assertEquals(List.of(john, bob), search("o"));
+        assertEquals(List.of(jane), search("Sm"));
+    }
+
+    @Test
+    void search_SharedTrigramsButNotContiguous_NoMatch() {
+        // Given - "abcXbcd" contains both trigrams of "abcd" but not "abcd" itself
+        columns = EmployeeColumns.of(List.of(new Employee("9", "abcXbcd", 1, 30, "Tester", "t@company.com")));
+        nameIndex = NameIndex.of(columns);
+
+        // Then
+        assertTrue(search("abcd").isEmpty());
+        assertEquals(1, search("xbc").size());
+    }
+
+    @Test
+    void search_UnknownTrigram_NoMatch() {
+        assertTrue(search("zzz").isEmpty());
+    }
+
+    @Test
+    void search_CreatedEmployee_FoundWithoutRebuild() {
+        // When
+        Employee alice = new Employee("4", "Alice Johnston", 60000, 41, "Architect", "alice@company.com");
+        columns = columns.with(alice);
+
+        // Then
+        assertTrue(nameIndex.covers(columns));
+        assertEquals(List.of(bob, alice), search("johns"));
+    }
+
+    @Test
+    void search_DeletedEmployee_NoLongerMatches() {
+        // When
+        columns = columns.without("1");
+
+        // Then
+        assertTrue(nameIndex.covers(columns));
+        assertEquals(List.of(bob), search("john"));
+    }
+
+    @Test
+    void covers_ManyChanges_AsksForRebuild() {
+        // Given
+        List<Employee> created = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            created.add(new Employee("new-" + i, "Temp Worker " + i, 40000, 25, "Intern", "temp@company.com"));
+        }
+
+        // When
+        for (Employee employee : created) {
+            columns = columns.with(employee);
+        }
+        for (Employee employee : created.subList(0, 1500)) {
+            columns = columns.without(employee.getId());
+        }
+        columns = columns.without("2");
+
+        // Then
+        assertFalse(nameIndex.covers(columns));
+        nameIndex = NameIndex.of(columns);
+        assertEquals(502, columns.count());
+        assertEquals(500, search("temp worker").size());
+        assertEquals(List.of(john, bob), search("john"));
+        assertTrue(search("jane").isEmpty());
+    }
+
+    private List<Employee> search(String query) {
+        return columns.employees(nameIndex.search(query, columns));
+    }
+}
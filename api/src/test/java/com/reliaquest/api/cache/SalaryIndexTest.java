@@ -0,0 +1,154 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    private EmployeeColumns columns;
+    private SalaryIndex salaries;
+
+    @BeforeEach
+    void setUp() {
+        columns = EmployeeColumns.of(List.of(
+                new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com"),
+                new Employee("2", "Jane Smith", 75000, 28, "Senior Developer", "jane@company.com"),
+                new Employee("3", "Bob Johnson", 90000, 35, "Tech Lead", "bob@company.com"),
+                new Employee("4", "Ann Lee", null, 22, "Intern", "ann@company.com")));
+        salaries = SalaryIndex.of(columns);
+    }
+
+    @Test
+    void highestSalary_MultipleEmployees() {
+        assertEquals(90000, salaries.highestSalary());
+    }
+
+    @Test
+    void highestSalary_NoSalaries_ReturnsZero() {
+        assertEquals(0, SalaryIndex.of(EmployeeColumns.of(List.of())).highestSalary());
+        assertTrue(SalaryIndex.of(EmployeeColumns.of(List.of())).percentile(50).isEmpty());
+    }
+
+    @Test
+    void topRows_HighestFirst_SkipsMissingSalaries() {
+        assertEquals(3, salaries.count());
+        assertArrayEquals(new int[] {2, 1, 0}, salaries.topRows(10));
+        assertArrayEquals(new int[] {2}, salaries.topRows(1));
+    }
+
+    @Test
+    void topRows_EqualSalaries_InRowOrder() {
+        // Given
+        columns = columns.with(new Employee("5", "Alice Brown", 90000, 40, "Architect", "alice@company.com"));
+
+        // When
+        salaries = salaries.with(columns, 4);
+
+        // Then
+        assertArrayEquals(new int[] {2, 4, 1}, salaries.topRows(3));
+    }
+
+    @Test
+    void percentile_NearestRank() {
+        assertEquals(OptionalInt.of(50000), salaries.percentile(0));
+        assertEquals(OptionalInt.of(50000), salaries.percentile(33.3));
+        assertEquals(OptionalInt.of(75000), salaries.percentile(50));
+        assertEquals(OptionalInt.of(75000), salaries.percentile(66.6));
+        assertEquals(OptionalInt.of(90000), salaries.percentile(99));
+        assertEquals(OptionalInt.of(90000), salaries.percentile(100));
+    }
+
+    @Test
+    void percentile_ExactRank_NotRoundedUp() {
+        // Given - 90% of 10 is rank 9 exactly, although 0.9 * 10 is not 9 in binary
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            employees.add(new Employee("id-" + i, "Worker " + i, i * 1000, 30, "Developer", "w@company.com"));
+        }
+
+        // When
+        SalaryIndex index = SalaryIndex.of(EmployeeColumns.of(employees));
+
+        // Then
+        assertEquals(OptionalInt.of(9000), index.percentile(90));
+        assertEquals(OptionalInt.of(1000), index.percentile(10));
+    }
+
+    @Test
+    void rowsBetween_BoundsInclusive() {
+        assertArrayEquals(new int[] {2, 1}, salaries.rowsBetween(75000, 90000));
+        assertArrayEquals(new int[] {1}, salaries.rowsBetween(50001, 89999));
+        assertArrayEquals(new int[] {2, 1, 0}, salaries.rowsBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(0, salaries.rowsBetween(90001, Integer.MAX_VALUE).length);
+        assertEquals(0, salaries.rowsBetween(2, 1).length);
+    }
+
+    @Test
+    void countAtMost_IncludesEqualSalaries() {
+        assertEquals(0, salaries.countAtMost(49999));
+        assertEquals(1, salaries.countAtMost(50000));
+        assertEquals(3, salaries.countAtMost(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void without_IndexedAndAddedRows() {
+        // Given
+        columns = columns.with(new Employee("5", "Alice Brown", 60000, 40, "Architect", "alice@company.com"));
+        SalaryIndex added = salaries.with(columns, 4);
+
+        // When
+        SalaryIndex removed = added.without(columns, 2).without(columns, 4);
+
+        // Then
+        assertArrayEquals(new int[] {2, 1, 4, 0}, added.topRows(10));
+        assertArrayEquals(new int[] {1, 0}, removed.topRows(10));
+        assertEquals(75000, removed.highestSalary());
+        assertEquals(OptionalInt.of(50000), removed.percentile(50));
+        assertArrayEquals(new int[] {2, 1, 0}, salaries.topRows(10));
+    }
+
+    @Test
+    void covers_UntilTooManyChanges() {
+        // Given
+        SalaryIndex index = salaries;
+        for (int i = 0; i < 1024; i++) {
+            columns = columns.with(new Employee("new-" + i, "Temp Worker " + i, i, 25, "Intern", "temp@company.com"));
+            index = index.with(columns, columns.size() - 1);
+        }
+        assertTrue(index.covers(columns));
+
+        // When
+        index = index.without(columns, 0);
+
+        // Then
+        assertFalse(index.covers(columns));
+        assertEquals(1026, index.count());
+        assertEquals(90000, index.highestSalary());
+    }
+
+    @Test
+    void covers_RenumberedRows_NotCovered() {
+        // Given
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add("new-" + i);
+            columns = columns.with(new Employee("new-" + i, "Temp Worker " + i, i, 25, "Intern", "temp@company.com"));
+        }
+        SalaryIndex index = SalaryIndex.of(columns);
+
+        // When - enough deletes compact the columns
+        for (String id : ids) {
+            columns = columns.without(id);
+        }
+
+        // Then
+        assertFalse(index.covers(columns));
+        assertArrayEquals(new int[] {2, 1, 0}, SalaryIndex.of(columns).topRows(10));
+    }
+}
@@ -0,0 +1,117 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void load_ConcurrentMisses_ShareOneCall() throws Exception {
+        // Given
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.load("all", () -> {
+            loaderCalls.incrementAndGet();
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return "employees";
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        // When
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            followers.add(executor.submit(() -> singleFlight.load("all", () -> {
+                loaderCalls.incrementAndGet();
+                return "unexpected";
+            })));
+        }
+        waitForCoalesced(CALLERS - 1);
+        releaseLoader.countDown();
+
+        // Then
+        assertEquals("employees", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("employees", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loaderCalls.get());
+        assertEquals(CALLERS - 1, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    void load_LoaderFails_FailureSharedAndKeyReleased() throws Exception {
+        // Given
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.load("all", () -> {
+            loaderStarted.countDown();
+            await(releaseLoader);
+            throw new IllegalStateException("Retries exhausted: 5/5");
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        Future<String> follower = executor.submit(() -> singleFlight.load("all", () -> "unexpected"));
+        waitForCoalesced(1);
+
+        // When
+        releaseLoader.countDown();
+
+        // Then
+        Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerFailure = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+        assertInstanceOf(IllegalStateException.class, followerFailure.getCause());
+        assertEquals("reloaded", singleFlight.load("all", () -> "reloaded"));
+    }
+
+    @Test
+    void load_DifferentKeys_NotCoalesced() {
+        // When
+        String first = singleFlight.load("1", () -> "John Doe");
+        String second = singleFlight.load("2", () -> "Jane Smith");
+
+        // Then
+        assertEquals("John Doe", first);
+        assertEquals("Jane Smith", second);
+        assertEquals(0, singleFlight.getCoalescedCount());
+    }
+
+    private void waitForCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, singleFlight.getCoalescedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
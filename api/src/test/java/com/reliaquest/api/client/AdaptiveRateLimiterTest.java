@@ -0,0 +1,155 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRateLimiterTest {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+
+    private AdaptiveRateLimiter rateLimiter;
+
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new AdaptiveRateLimiter(
+                Clock.systemUTC(), INITIAL_BACKOFF, Duration.ofSeconds(120), Duration.ofSeconds(2));
+        now = Instant.parse("2024-01-01T00:00:00Z");
+    }
+
+    @Test
+    void tryAcquire_LimitUnknown_AllowsCalls() {
+        for (int i = 0; i < 20; i++) {
+            assertNull(send(200));
+        }
+        assertEquals(0, rateLimiter.getLimitEstimate());
+    }
+
+    @Test
+    void onResponse_TooManyRequests_LearnsLimitAndLocksOut() {
+        // Given - five calls get through, the sixth is rejected
+        exhaustBudget(5);
+
+        // Then
+        assertEquals(5, rateLimiter.getLimitEstimate());
+        assertEquals(now.plus(INITIAL_BACKOFF), rateLimiter.tryAcquire(now.plusSeconds(1)));
+    }
+
+    @Test
+    void tryAcquire_LearnedBudgetSpent_WaitsOutWindowInsteadOfCalling() {
+        // Given
+        exhaustBudget(5);
+        now = now.plus(INITIAL_BACKOFF);
+
+        // When - the window reopens and the budget is used again
+        for (int i = 0; i < 5; i++) {
+            assertNull(send(200));
+        }
+
+        // Then - the sixth call is held back rather than sent to be rejected
+        Instant lastAllowed = now;
+        assertEquals(lastAllowed.plus(INITIAL_BACKOFF), rateLimiter.tryAcquire(now.plusSeconds(1)));
+        assertNull(rateLimiter.tryAcquire(lastAllowed.plus(INITIAL_BACKOFF)));
+    }
+
+    @Test
+    void onResponse_StillRejectedAfterBackoff_DoublesEstimate() {
+        // Given
+        exhaustBudget(5);
+        now = now.plus(INITIAL_BACKOFF);
+
+        // When - the probe after the estimated window is rejected too
+        assertNull(send(429));
+
+        // Then
+        assertEquals(Duration.ofSeconds(60), rateLimiter.getBackoffEstimate());
+        assertEquals(now.plusSeconds(60), rateLimiter.tryAcquire(now));
+    }
+
+    @Test
+    void onResponse_SuccessAfterLockout_LearnsObservedWindow() {
+        // Given
+        exhaustBudget(5);
+        now = now.plus(INITIAL_BACKOFF);
+        assertNull(send(429));
+        now = now.plusSeconds(60);
+
+        // When
+        assertNull(send(200));
+
+        // Then - rejected from the first 429 until now
+        assertEquals(Duration.ofSeconds(90), rateLimiter.getBackoffEstimate());
+    }
+
+    @Test
+    void onResponse_CallSentBeforeLockout_Ignored() {
+        // Given
+        Instant sentEarlier = now.minusSeconds(1);
+        exhaustBudget(5);
+
+        // When - a response to a call that was in flight when the lockout began
+        rateLimiter.onResponse(200, sentEarlier, now.plusSeconds(1));
+        rateLimiter.onResponse(429, sentEarlier, now.plusSeconds(1));
+
+        // Then
+        assertEquals(INITIAL_BACKOFF, rateLimiter.getBackoffEstimate());
+        assertEquals(now.plus(INITIAL_BACKOFF), rateLimiter.tryAcquire(now.plusSeconds(2)));
+    }
+
+    @Test
+    void onResponse_TooManyRequestsWithRetryAfter_LocksOutForExactlyThatLong() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            assertNull(send(200));
+        }
+
+        // When
+        assertNull(rateLimiter.tryAcquire(now));
+        rateLimiter.onResponse(429, Duration.ofSeconds(3), now, now);
+
+        // Then - no doubling of the estimate, and the call after the advertised delay goes ahead
+        assertEquals(5, rateLimiter.getLimitEstimate());
+        assertEquals(INITIAL_BACKOFF, rateLimiter.getBackoffEstimate());
+        assertEquals(now.plusSeconds(3), rateLimiter.tryAcquire(now.plusSeconds(1)));
+        assertNull(rateLimiter.tryAcquire(now.plusSeconds(3)));
+    }
+
+    @Test
+    void bindTo_ExposesEstimates() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        rateLimiter.bindTo(registry);
+
+        // When
+        exhaustBudget(7);
+
+        // Then
+        assertEquals(7, registry.get("employee.upstream.rate-limit.estimated-limit").gauge().value());
+        assertEquals(30, registry.get("employee.upstream.rate-limit.estimated-backoff").gauge().value());
+    }
+
+    private void exhaustBudget(int allowed) {
+        for (int i = 0; i < allowed; i++) {
+            assertNull(send(200));
+        }
+        assertNull(send(429));
+    }
+
+    /**
+     * @return the result of taking a slot, answering the call with {@code status} if it went ahead
+     */
+    private Instant send(int status) {
+        Instant permittedAt = rateLimiter.tryAcquire(now);
+        if (permittedAt == null) {
+            rateLimiter.onResponse(status, now, now);
+        }
+        return permittedAt;
+    }
+}
@@ -0,0 +1,143 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.CircuitOpenException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final List<CircuitBreaker.State> transitions = new ArrayList<>();
+
+    private CircuitBreaker circuitBreaker;
+
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker(
+                UpstreamOperation.LIST,
+                Clock.systemUTC(),
+                3,
+                OPEN_DURATION,
+                (operation, state) -> transitions.add(state));
+        now = Instant.parse("2024-01-01T00:00:00Z");
+    }
+
+    @Test
+    void onFailure_ThresholdReached_Opens() {
+        // When
+        failTimes(3);
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission(now.plusSeconds(1)));
+        assertEquals(List.of(CircuitBreaker.State.OPEN), transitions);
+    }
+
+    @Test
+    void onSuccess_ResetsConsecutiveFailures() {
+        // When
+        failTimes(2);
+        circuitBreaker.onSuccess();
+        failTimes(2);
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void tryAcquirePermission_OpenDurationPassed_AllowsSingleTrial() {
+        // Given
+        failTimes(3);
+
+        // When
+        boolean trial = circuitBreaker.tryAcquirePermission(now.plus(OPEN_DURATION));
+        boolean concurrent = circuitBreaker.tryAcquirePermission(now.plus(OPEN_DURATION));
+
+        // Then
+        assertTrue(trial);
+        assertFalse(concurrent);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void onSuccess_TrialSucceeds_Closes() {
+        // Given
+        failTimes(3);
+        circuitBreaker.tryAcquirePermission(now.plus(OPEN_DURATION));
+
+        // When
+        circuitBreaker.onSuccess();
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(
+                List.of(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.CLOSED),
+                transitions);
+    }
+
+    @Test
+    void onFailure_TrialFails_OpensAgain() {
+        // Given
+        failTimes(3);
+        Instant trialAt = now.plus(OPEN_DURATION);
+        circuitBreaker.tryAcquirePermission(trialAt);
+
+        // When
+        circuitBreaker.onFailure(trialAt);
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission(trialAt.plusSeconds(1)));
+    }
+
+    @Test
+    void protect_Open_FailsFastWithoutSubscribing() {
+        // Given
+        Mono<String> unavailable = Mono.error(
+                WebClientResponseException.create(503, "Service Unavailable", null, null, null));
+        for (int i = 0; i < 3; i++) {
+            assertThrows(WebClientResponseException.class, () -> circuitBreaker.protect(unavailable).block());
+        }
+
+        // When
+        Mono<String> call = circuitBreaker.protect(Mono.fromCallable(() -> fail("upstream must not be called")));
+
+        // Then
+        CircuitOpenException ex = assertThrows(CircuitOpenException.class, call::block);
+        assertTrue(ex.getRetryAfter().compareTo(OPEN_DURATION) <= 0);
+    }
+
+    @Test
+    void protect_NotFound_CountsAsHealthy() {
+        // Given
+        Mono<String> notFound =
+                Mono.error(WebClientResponseException.create(404, "Not Found", null, null, null));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThrows(WebClientResponseException.class, () -> circuitBreaker.protect(notFound).block());
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(circuitBreaker.tryAcquirePermission(now));
+            circuitBreaker.onFailure(now);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+class UpstreamRetryTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final UpstreamRetry retry = new UpstreamRetry(
+            3,
+            Duration.ofMillis(1),
+            Duration.ofSeconds(10),
+            WebClientResponseException.class::isInstance,
+            Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void retryAfterWithinMaxBackoff_RetriesUntilSuccess() {
+        // Given - two rejections that say to come back right away
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() ->
+                attempts.incrementAndGet() <= 2 ? Mono.error(tooManyRequests("0")) : Mono.just("ok"));
+
+        // When
+        String result = call.retryWhen(retry).block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void retryAfterBeyondMaxBackoff_FailsWithoutRetrying() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(tooManyRequests("60"));
+        });
+
+        // When
+        UpstreamRateLimitedException ex = assertThrows(
+                UpstreamRateLimitedException.class,
+                () -> call.retryWhen(retry).block(Duration.ofSeconds(5)));
+
+        // Then
+        assertEquals(1, attempts.get());
+        assertEquals(Duration.ofSeconds(60), ex.getRetryAfter());
+    }
+
+    @Test
+    void withoutRetryAfter_BacksOffUntilExhausted() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(tooManyRequests(null));
+        });
+
+        // When
+        RuntimeException ex =
+                assertThrows(RuntimeException.class, () -> call.retryWhen(retry).block(Duration.ofSeconds(5)));
+
+        // Then
+        assertTrue(Exceptions.isRetryExhausted(ex));
+        assertTrue(ex.getMessage().startsWith("Retries exhausted"));
+        assertEquals(4, attempts.get());
+    }
+
+    @Test
+    void bindTo_CountsRetriesAndExhaustion() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        retry.bindTo(registry);
+        Mono<String> withoutRetryAfter = Mono.error(tooManyRequests(null));
+        Mono<String> withRetryAfter = Mono.error(tooManyRequests("60"));
+
+        // When
+        assertThrows(RuntimeException.class, () -> withoutRetryAfter.retryWhen(retry).block(Duration.ofSeconds(5)));
+        assertThrows(RuntimeException.class, () -> withRetryAfter.retryWhen(retry).block(Duration.ofSeconds(5)));
+
+        // Then
+        assertEquals(3, counter(registry, "employee.upstream.retries", "delay", "backoff"));
+        assertEquals(0, counter(registry, "employee.upstream.retries", "delay", "retry-after"));
+        assertEquals(1, counter(registry, "employee.upstream.retries.exhausted", "reason", "max-attempts"));
+        assertEquals(1, counter(registry, "employee.upstream.retries.exhausted", "reason", "retry-after-too-long"));
+    }
+
+    @Test
+    void notRetryable_FailsImmediately() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new IllegalStateException("boom"));
+        });
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> call.retryWhen(retry).block(Duration.ofSeconds(5)));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void backoff_StaysWithinBounds() {
+        for (int attempt = 0; attempt < 64; attempt++) {
+            Duration delay = retry.backoff(attempt);
+            assertFalse(delay.isNegative());
+            assertTrue(delay.compareTo(Duration.ofSeconds(10)) <= 0);
+        }
+    }
+
+    @Test
+    void retryAfterParse_AcceptsSecondsAndHttpDate() {
+        assertEquals(Duration.ofSeconds(7), RetryAfter.parse("7", NOW));
+        assertEquals(Duration.ofSeconds(30), RetryAfter.parse("Mon, 01 Jan 2024 00:00:30 GMT", NOW));
+        assertEquals(Duration.ZERO, RetryAfter.parse("Sun, 31 Dec 2023 23:59:00 GMT", NOW));
+        assertNull(RetryAfter.parse("soon", NOW));
+        assertNull(RetryAfter.parse(null, NOW));
+    }
+
+    private static double counter(SimpleMeterRegistry registry, String name, String tag, String value) {
+        return registry.get(name).tag(tag, value).functionCounter().count();
+    }
+
+    private static WebClientResponseException tooManyRequests(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return WebClientResponseException.create(
+                HttpStatusCode.valueOf(429), "Too Many Requests", headers, new byte[0], null, null);
+    }
+}
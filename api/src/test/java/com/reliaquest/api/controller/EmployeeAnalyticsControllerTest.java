@@ -0,0 +1,58 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.AgeBand;
+import com.reliaquest.api.model.TitleStatistics;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeAnalyticsControllerTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @InjectMocks
+    private EmployeeAnalyticsController controller;
+
+    @Test
+    void getTitleStatistics_CarriesSnapshotETag() {
+        // Given
+        List<TitleStatistics> titles = List.of(new TitleStatistics("Developer", 2, 62500.0, 75000));
+        when(employeeService.getSnapshotETag()).thenReturn("\"abc-1-0\"");
+        when(employeeService.getTitleStatistics()).thenReturn(titles);
+
+        // When
+        ResponseEntity<List<TitleStatistics>> response = controller.getTitleStatistics();
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(titles, response.getBody());
+        assertEquals("\"abc-1-0\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void getAgeBands_StaleSnapshot_FlaggedWithWarning() {
+        // Given
+        List<AgeBand> ageBands = List.of(new AgeBand("20-29", 20, 29, 2));
+        when(employeeService.getAgeBands()).thenReturn(ageBands);
+        when(employeeService.isServingStaleData()).thenReturn(true);
+
+        // When
+        ResponseEntity<List<AgeBand>> response = controller.getAgeBands();
+
+        // Then
+        assertEquals(ageBands, response.getBody());
+        assertEquals(EmployeeController.STALE_WARNING, response.getHeaders().getFirst(HttpHeaders.WARNING));
+    }
+}
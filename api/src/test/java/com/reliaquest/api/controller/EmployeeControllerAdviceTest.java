@@ -0,0 +1,25 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+
+class EmployeeControllerAdviceTest {
+
+    private final EmployeeControllerAdvice advice = new EmployeeControllerAdvice();
+
+    @Test
+    void handleMissingParameter_BadRequestNamingParameter() {
+        // When
+        ResponseEntity<?> response =
+                advice.handleMissingParameter(new MissingServletRequestParameterException("n", "int"));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Map.of("error", "Missing required parameter 'n'"), response.getBody());
+    }
+}
@@ -2,6 +2,7 @@ package com.reliaquest.api.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.model.Employee;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -68,6 +70,60 @@ class EmployeeControllerTest {
         verify(employeeService).getAllEmployees();
     }
 
+    @Test
+    void getAllEmployees_CarriesSnapshotETag() {
+        // Given
+        when(employeeService.getSnapshotETag()).thenReturn("\"abc-1-0\"");
+        when(employeeService.getAllEmployees()).thenReturn(testEmployees);
+
+        // When
+        ResponseEntity<List<Employee>> response = employeeController.getAllEmployees();
+
+        // Then
+        assertEquals("\"abc-1-0\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void getAllEmployees_NoSnapshotLoadedYet_ServedWithoutETag() {
+        // Given
+        when(employeeService.getAllEmployees()).thenReturn(testEmployees);
+
+        // When
+        ResponseEntity<List<Employee>> response = employeeController.getAllEmployees();
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getETag());
+        assertEquals(testEmployees, response.getBody());
+    }
+
+    @Test
+    void getAllEmployees_StaleSnapshot_FlaggedWithWarning() {
+        // Given
+        when(employeeService.getAllEmployees()).thenReturn(testEmployees);
+        when(employeeService.isServingStaleData()).thenReturn(true);
+
+        // When
+        ResponseEntity<List<Employee>> response = employeeController.getAllEmployees();
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("110 - \"Response is Stale\"", response.getHeaders().getFirst(HttpHeaders.WARNING));
+        assertEquals(1, response.getBody().size());
+    }
+
+    @Test
+    void getAllEmployees_FreshSnapshot_NoWarning() {
+        // Given
+        when(employeeService.getAllEmployees()).thenReturn(testEmployees);
+
+        // When
+        ResponseEntity<List<Employee>> response = employeeController.getAllEmployees();
+
+        // Then
+        assertNull(response.getHeaders().getFirst(HttpHeaders.WARNING));
+    }
+
     @Test
     void getEmployeesByNameSearch_Success() {
         // Given
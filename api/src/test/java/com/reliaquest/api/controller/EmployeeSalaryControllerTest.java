@@ -0,0 +1,70 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSalaryControllerTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @InjectMocks
+    private EmployeeSalaryController controller;
+
+    @Test
+    void getTopEarners_CarriesSnapshotETag() {
+        // Given
+        List<Employee> topEarners =
+                List.of(new Employee("3", "Bob Johnson", 90000, 35, "Tech Lead", "bob@company.com"));
+        when(employeeService.getSnapshotETag()).thenReturn("\"abc-1-0\"");
+        when(employeeService.getTopEarners(1)).thenReturn(topEarners);
+
+        // When
+        ResponseEntity<List<Employee>> response = controller.getTopEarners(1);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(topEarners, response.getBody());
+        assertEquals("\"abc-1-0\"", response.getHeaders().getETag());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.WARNING));
+    }
+
+    @Test
+    void getSalaryPercentiles_StaleSnapshot_FlaggedWithWarning() {
+        // Given
+        when(employeeService.getSalaryPercentiles(List.of(50.0))).thenReturn(Map.of("p50", 75000));
+        when(employeeService.isServingStaleData()).thenReturn(true);
+
+        // When
+        ResponseEntity<Map<String, Integer>> response = controller.getSalaryPercentiles(List.of(50.0));
+
+        // Then
+        assertEquals(Map.of("p50", 75000), response.getBody());
+        assertEquals(EmployeeController.STALE_WARNING, response.getHeaders().getFirst(HttpHeaders.WARNING));
+    }
+
+    @Test
+    void getEmployeesBySalaryRange_OmittedBounds_Unbounded() {
+        // When
+        controller.getEmployeesBySalaryRange(null, 80000);
+        controller.getEmployeesBySalaryRange(50000, null);
+
+        // Then
+        verify(employeeService).getEmployeesBySalaryRange(Integer.MIN_VALUE, 80000);
+        verify(employeeService).getEmployeesBySalaryRange(50000, Integer.MAX_VALUE);
+    }
+}
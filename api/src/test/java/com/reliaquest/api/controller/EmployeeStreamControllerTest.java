@@ -0,0 +1,116 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeStreamControllerTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeStreamController controller;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        controller = new EmployeeStreamController(employeeService, new ObjectMapper());
+        request = new MockHttpServletRequest("GET", "/api/v2/employee/stream");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void streamEmployees_WritesOneJsonObjectPerLine() throws Exception {
+        // Given
+        when(employeeService.getAllEmployees())
+                .thenReturn(List.of(
+                        new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com"),
+                        new Employee("2", "Jane Doe", 60000, 25, null, "jane@company.com")));
+
+        // When
+        stream(null);
+
+        // Then
+        assertEquals(EmployeeStreamController.NDJSON, response.getContentType().split(";")[0]);
+        assertEquals(
+                "{\"id\":\"1\",\"employee_name\":\"John Doe\",\"employee_salary\":50000,\"employee_age\":30,"
+                        + "\"employee_title\":\"Developer\",\"employee_email\":\"john@company.com\"}\n"
+                        + "{\"id\":\"2\",\"employee_name\":\"Jane Doe\",\"employee_salary\":60000,\"employee_age\":25,"
+                        + "\"employee_title\":null,\"employee_email\":\"jane@company.com\"}\n",
+                response.getContentAsString());
+        assertNull(response.getHeader(HttpHeaders.WARNING));
+    }
+
+    @Test
+    void streamEmployees_WithFields_ProjectsEachLine() throws Exception {
+        // Given
+        when(employeeService.getAllEmployees())
+                .thenReturn(List.of(new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com")));
+
+        // When
+        stream("employee_salary, id");
+
+        // Then
+        assertEquals("{\"id\":\"1\",\"employee_salary\":50000}\n", response.getContentAsString());
+    }
+
+    @Test
+    void streamEmployees_UnknownField_RejectedBeforeWriting() {
+        // When
+        assertThrows(IllegalArgumentException.class, () -> stream("id,password"));
+
+        // Then
+        assertEquals(0, response.getContentAsByteArray().length);
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void streamEmployees_StaleSnapshot_FlaggedWithWarning() throws Exception {
+        // Given
+        when(employeeService.getAllEmployees()).thenReturn(List.of());
+        when(employeeService.isServingStaleData()).thenReturn(true);
+
+        // When
+        stream(null);
+
+        // Then
+        assertEquals(EmployeeController.STALE_WARNING, response.getHeader(HttpHeaders.WARNING));
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    void streamEmployees_MatchingETag_NotModified() throws Exception {
+        // Given
+        when(employeeService.getSnapshotETag()).thenReturn("\"abc-1-0\"");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"abc-1-0\"");
+
+        // When
+        stream(null);
+
+        // Then
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    private void stream(String fields) throws Exception {
+        controller.streamEmployees(fields, new ServletWebRequest(request, response), response);
+    }
+}
@@ -1,15 +1,39 @@
 package com.reliaquest.api.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.cache.EmployeeChange;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotStore;
+import com.reliaquest.api.cache.SnapshotView;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.EmployeeDeletion;
+import com.reliaquest.api.client.EmployeeListResponse;
+import com.reliaquest.api.exception.ValidationException;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.timing.RequestPhase;
+import com.reliaquest.api.timing.RequestTimings;
+import jakarta.validation.Validator;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
 
 class EmployeeServiceTest {
 
+    private static final long LOAD_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
     private List<Employee> testEmployees;
 
     @BeforeEach
@@ -71,4 +95,190 @@ class EmployeeServiceTest {
         assertEquals("Jane Smith", topEarners.get(1));
         assertEquals("John Doe", topEarners.get(2));
     }
+
+    @Test
+    void deleteEmployeeById_NameKnownLocally_SingleUpstreamCall() {
+        // Given
+        EmployeeApiClient employeeApiClient = mock(EmployeeApiClient.class);
+        EmployeeSnapshotStore employeeSnapshotStore = mock(EmployeeSnapshotStore.class);
+        EmployeeService employeeService =
+                new EmployeeService(employeeApiClient, employeeSnapshotStore, mock(Validator.class), cacheManager());
+        when(employeeSnapshotStore.findLoaded("3")).thenReturn(Optional.of(testEmployees.get(2)));
+        when(employeeApiClient.deleteEmployeeByName("Bob Johnson")).thenReturn(EmployeeDeletion.deleted("3"));
+
+        // When
+        String deleted = employeeService.deleteEmployeeById("3");
+
+        // Then
+        assertEquals("Bob Johnson", deleted);
+        verify(employeeApiClient, never()).getEmployeeById(anyString());
+        verify(employeeSnapshotStore).apply(EmployeeChange.deleted("3"));
+    }
+
+    @Test
+    void deleteEmployeeById_UnknownLocally_FallsBackToLookup() {
+        // Given
+        EmployeeApiClient employeeApiClient = mock(EmployeeApiClient.class);
+        EmployeeSnapshotStore employeeSnapshotStore = mock(EmployeeSnapshotStore.class);
+        EmployeeService employeeService =
+                new EmployeeService(employeeApiClient, employeeSnapshotStore, mock(Validator.class), cacheManager());
+        when(employeeSnapshotStore.findLoaded("1")).thenReturn(Optional.empty());
+        when(employeeApiClient.getEmployeeById("1")).thenReturn(Optional.of(testEmployees.get(0)));
+        when(employeeApiClient.deleteEmployeeByName("John Doe")).thenReturn(EmployeeDeletion.deleted("1"));
+
+        // When
+        String deleted = employeeService.deleteEmployeeById("1");
+
+        // Then
+        assertEquals("John Doe", deleted);
+        verify(employeeApiClient).getEmployeeById("1");
+    }
+
+    @Test
+    void deleteEmployeeById_DuplicateName_AppliesTheIdTheUpstreamRemoved() {
+        // Given - the mock API removes the oldest of two employees with the same name
+        EmployeeApiClient employeeApiClient = mock(EmployeeApiClient.class);
+        EmployeeSnapshotStore employeeSnapshotStore = mock(EmployeeSnapshotStore.class);
+        CacheManager cacheManager = cacheManager();
+        EmployeeService employeeService =
+                new EmployeeService(employeeApiClient, employeeSnapshotStore, mock(Validator.class), cacheManager);
+        Employee older = testEmployees.get(0);
+        Employee newer = new Employee("4", "John Doe", 65000, 41, "Architect", "jdoe@company.com");
+        Cache cache = cacheManager.getCache("employees");
+        cache.put("1", Optional.of(older));
+        when(employeeSnapshotStore.findLoaded("4")).thenReturn(Optional.of(newer));
+        when(employeeApiClient.deleteEmployeeByName("John Doe")).thenReturn(EmployeeDeletion.deleted("1"));
+
+        // When
+        employeeService.deleteEmployeeById("4");
+
+        // Then
+        verify(employeeSnapshotStore).apply(EmployeeChange.deleted("1"));
+        verify(employeeSnapshotStore, never()).apply(EmployeeChange.deleted("4"));
+        verify(employeeSnapshotStore, never()).invalidate();
+        assertNull(cache.get("1"));
+    }
+
+    @Test
+    void deleteEmployeeById_DuplicateNameAndNoIdFromUpstream_ReloadsSnapshot() {
+        // Given
+        EmployeeApiClient employeeApiClient = mock(EmployeeApiClient.class);
+        EmployeeSnapshotStore employeeSnapshotStore = mock(EmployeeSnapshotStore.class);
+        EmployeeService employeeService =
+                new EmployeeService(employeeApiClient, employeeSnapshotStore, mock(Validator.class), cacheManager());
+        Employee newer = new Employee("4", "John Doe", 65000, 41, "Architect", "jdoe@company.com");
+        when(employeeSnapshotStore.findLoaded("4")).thenReturn(Optional.of(newer));
+        when(employeeSnapshotStore.findLoadedByName("John Doe")).thenReturn(List.of(testEmployees.get(0), newer));
+        when(employeeApiClient.deleteEmployeeByName("John Doe")).thenReturn(EmployeeDeletion.deleted(null));
+
+        // When
+        String deleted = employeeService.deleteEmployeeById("4");
+
+        // Then
+        assertEquals("John Doe", deleted);
+        verify(employeeSnapshotStore, never()).apply(any());
+        verify(employeeSnapshotStore).invalidate();
+        verify(employeeSnapshotStore).current();
+    }
+
+    @Test
+    void deleteEmployeeById_UniqueNameAndNoIdFromUpstream_AppliesRequestedId() {
+        // Given
+        EmployeeApiClient employeeApiClient = mock(EmployeeApiClient.class);
+        EmployeeSnapshotStore employeeSnapshotStore = mock(EmployeeSnapshotStore.class);
+        EmployeeService employeeService =
+                new EmployeeService(employeeApiClient, employeeSnapshotStore, mock(Validator.class), cacheManager());
+        when(employeeSnapshotStore.findLoaded("3")).thenReturn(Optional.of(testEmployees.get(2)));
+        when(employeeSnapshotStore.findLoadedByName("Bob Johnson")).thenReturn(List.of(testEmployees.get(2)));
+        when(employeeApiClient.deleteEmployeeByName("Bob Johnson")).thenReturn(EmployeeDeletion.deleted(null));
+
+        // When
+        employeeService.deleteEmployeeById("3");
+
+        // Then
+        verify(employeeSnapshotStore).apply(EmployeeChange.deleted("3"));
+        verify(employeeSnapshotStore, never()).invalidate();
+    }
+
+    @Test
+    void getSalaryPercentiles_KeyedInRequestOrder() {
+        // Given
+        EmployeeSnapshotStore employeeSnapshotStore = mock(EmployeeSnapshotStore.class);
+        EmployeeService employeeService =
+                new EmployeeService(
+                        mock(EmployeeApiClient.class), employeeSnapshotStore, mock(Validator.class), cacheManager());
+        when(employeeSnapshotStore.current(SnapshotView.PERCENTILES))
+                .thenReturn(EmployeeSnapshot.of(testEmployees, Instant.now()));
+
+        // When
+        Map<String, Integer> percentiles = employeeService.getSalaryPercentiles(List.of(99.9, 50.0, 0.0));
+
+        // Then
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        expected.put("p99.9", 90000);
+        expected.put("p50", 75000);
+        expected.put("p0", 50000);
+        assertEquals(expected, percentiles);
+        assertEquals(List.of("p99.9", "p50", "p0"), List.copyOf(percentiles.keySet()));
+    }
+
+    @Test
+    void salaryQueries_InvalidParameters_RejectedWithoutReadingSnapshot() {
+        // Given
+        EmployeeSnapshotStore employeeSnapshotStore = mock(EmployeeSnapshotStore.class);
+        EmployeeService employeeService =
+                new EmployeeService(
+                        mock(EmployeeApiClient.class), employeeSnapshotStore, mock(Validator.class), cacheManager());
+
+        // Then
+        assertThrows(ValidationException.class, () -> employeeService.getTopEarners(0));
+        assertThrows(
+                ValidationException.class,
+                () -> employeeService.getTopEarners(EmployeeService.MAX_TOP_EARNERS + 1));
+        assertThrows(ValidationException.class, () -> employeeService.getSalaryPercentiles(List.of()));
+        assertThrows(ValidationException.class, () -> employeeService.getSalaryPercentiles(List.of(50.0, 100.5)));
+        assertThrows(ValidationException.class, () -> employeeService.getSalaryPercentiles(List.of(Double.NaN)));
+        assertThrows(ValidationException.class, () -> employeeService.getEmployeesBySalaryRange(10, 9));
+        verifyNoInteractions(employeeSnapshotStore);
+    }
+
+    @Test
+    void getAllEmployees_ColdSnapshotAfterETagRead_LoadChargedToCachePhase() {
+        // Given - an upstream that takes a while to answer, as seen through an uninstrumented client
+        EmployeeApiClient employeeApiClient = mock(EmployeeApiClient.class);
+        when(employeeApiClient.getAllEmployeesIfChanged(any())).thenAnswer(invocation -> {
+            pause(LOAD_NANOS);
+            return EmployeeListResponse.modified(testEmployees, null);
+        });
+        EmployeeSnapshotStore employeeSnapshotStore = new EmployeeSnapshotStore(employeeApiClient);
+        ReflectionTestUtils.setField(employeeSnapshotStore, "maxStalenessMs", 600_000L);
+        EmployeeService employeeService =
+                new EmployeeService(employeeApiClient, employeeSnapshotStore, mock(Validator.class), cacheManager());
+        RequestTimings timings = RequestTimings.start(true);
+
+        // When - what a list request does: tag first, then the body
+        String etag;
+        try {
+            etag = employeeService.getSnapshotETag();
+            employeeService.getAllEmployees();
+        } finally {
+            timings.finish();
+        }
+
+        // Then
+        assertTrue(timings.nanos(RequestPhase.CACHE) >= LOAD_NANOS, timings.serverTiming());
+        assertTrue(timings.nanos(RequestPhase.APP) < LOAD_NANOS, timings.serverTiming());
+        assertNull(etag);
+    }
+
+    private static void pause(long nanos) {
+        long until = System.nanoTime() + nanos;
+        while (System.nanoTime() < until) {
+            LockSupport.parkNanos(until - System.nanoTime());
+        }
+    }
+
+    private static CacheManager cacheManager() {
+        return new ConcurrentMapCacheManager("employees");
+    }
 }
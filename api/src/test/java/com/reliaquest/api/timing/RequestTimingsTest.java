@@ -0,0 +1,78 @@
+package com.reliaquest.api.timing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.finish();
+        }
+    }
+
+    @Test
+    void enter_NotTimed_DoesNothing() {
+        // When
+        int token = RequestTimings.enter(RequestPhase.UPSTREAM);
+        RequestTimings.exit(token);
+
+        // Then
+        assertNull(RequestTimings.current());
+    }
+
+    @Test
+    void enter_NestedPhases_ChargesEachMomentToTheInnermostPhase() {
+        // Given
+        RequestTimings timings = RequestTimings.start(true);
+
+        // When
+        int cache = RequestTimings.enter(RequestPhase.CACHE);
+        pause();
+        int upstream = RequestTimings.enter(RequestPhase.UPSTREAM);
+        pause();
+        RequestTimings.exit(upstream);
+        RequestTimings.exit(cache);
+        timings.finish();
+
+        // Then
+        assertNull(RequestTimings.current());
+        assertTrue(timings.nanos(RequestPhase.CACHE) >= TimeUnit.MILLISECONDS.toNanos(2));
+        assertTrue(timings.nanos(RequestPhase.UPSTREAM) >= TimeUnit.MILLISECONDS.toNanos(2));
+        assertEquals(0, timings.nanos(RequestPhase.COMPUTE));
+        long phases = 0;
+        for (RequestPhase phase : RequestPhase.values()) {
+            phases += timings.nanos(phase);
+        }
+        assertEquals(timings.totalNanos(), phases);
+    }
+
+    @Test
+    void serverTiming_ListsPhasesThatTookTimeAndTheTotal() {
+        // Given
+        RequestTimings timings = RequestTimings.start(true);
+        int compute = RequestTimings.enter(RequestPhase.COMPUTE);
+        pause();
+        RequestTimings.exit(compute);
+
+        // When
+        String header = timings.serverTiming();
+
+        // Then
+        String metric = ";dur=\\d+\\.\\d{3}";
+        assertTrue(header.matches("(app" + metric + ", )?compute" + metric + ", total" + metric), header);
+    }
+
+    private static void pause() {
+        long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2);
+        while (System.nanoTime() < until) {
+            LockSupport.parkNanos(until - System.nanoTime());
+        }
+    }
+}
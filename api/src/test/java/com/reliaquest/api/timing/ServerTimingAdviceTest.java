@@ -0,0 +1,85 @@
+package com.reliaquest.api.timing;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.exception.CircuitOpenException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "employee-v1.server-timing.header-enabled=true")
+@ActiveProfiles("test")
+class ServerTimingAdviceTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    private String getBaseUrl() {
+        return "http://localhost:" + port + "/api/v2/employee";
+    }
+
+    @Test
+    void successfulResponse_CarriesServerTiming() {
+        // Given
+        when(employeeService.getAllEmployees())
+                .thenReturn(List.of(new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com")));
+
+        // When
+        ResponseEntity<Employee[]> response = restTemplate.getForEntity(getBaseUrl(), Employee[].class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertServerTiming(response);
+    }
+
+    @Test
+    void upstreamUnavailable_ErrorResponseCarriesServerTiming() {
+        // Given
+        when(employeeService.getAllEmployees())
+                .thenThrow(new CircuitOpenException("getAllEmployees", Duration.ofSeconds(5)));
+
+        // When
+        ResponseEntity<Map> response = restTemplate.getForEntity(getBaseUrl(), Map.class);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertServerTiming(response);
+    }
+
+    @Test
+    void invalidParameter_ErrorResponseCarriesServerTiming() {
+        // When
+        ResponseEntity<Map> response = restTemplate.getForEntity(getBaseUrl() + "/salaries/top?n=abc", Map.class);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertServerTiming(response);
+    }
+
+    private static void assertServerTiming(ResponseEntity<?> response) {
+        List<String> values = response.getHeaders().get(ServerTimingAdvice.SERVER_TIMING);
+        assertNotNull(values);
+        assertEquals(1, values.size());
+        assertTrue(values.get(0).matches("(\\w+;dur=\\d+\\.\\d{3}, )*total;dur=\\d+\\.\\d{3}"), values.get(0));
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeGenerator;
+import java.util.List;
+
+/**
+ * Benchmark datasets, generated by the mock server's own {@link MockEmployeeGenerator} so names, titles and salary
+ * ranges look like what the API actually receives. The seed is fixed so every run sees the same employees.
+ */
+final class EmployeeDatasets {
+
+    static final long SEED = 42L;
+
+    private EmployeeDatasets() {}
+
+    static List<MockEmployee> mockEmployees(int size) {
+        return MockEmployeeGenerator.generate(size, SEED);
+    }
+
+    static List<Employee> employees(int size) {
+        return mockEmployees(size).stream().map(EmployeeDatasets::toEmployee).toList();
+    }
+
+    static Employee toEmployee(MockEmployee mockEmployee) {
+        return new Employee(
+                mockEmployee.getId().toString(),
+                mockEmployee.getName(),
+                mockEmployee.getSalary(),
+                mockEmployee.getAge(),
+                mockEmployee.getTitle(),
+                mockEmployee.getEmail());
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Decoding the mock API's list response, which the API pays for on every snapshot load. The payload is serialized from
+ * the server's own model and decoded with the same Jackson defaults Spring gives the WebClient.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeResponseDeserializationBenchmark {
+
+    private static final TypeReference<EmployeeResponse<List<Employee>>> RESPONSE_TYPE = new TypeReference<>() {};
+
+    @Param({"50", "1000", "100000", "1000000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        payload = objectMapper.writeValueAsBytes(Response.handledWith(EmployeeDatasets.mockEmployees(size)));
+    }
+
+    @Benchmark
+    public EmployeeResponse<List<Employee>> deserializeEmployeeList() throws IOException {
+        return objectMapper.readValue(payload, RESPONSE_TYPE);
+    }
+}
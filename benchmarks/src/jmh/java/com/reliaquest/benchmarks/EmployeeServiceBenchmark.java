@@ -0,0 +1,103 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.EmployeeAggregates;
+import com.reliaquest.api.cache.EmployeeColumns;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotStore;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The in-memory work behind the list-derived endpoints, measured through {@link EmployeeService} against a snapshot
+ * that is already loaded, i.e. what a request costs once the mock API is out of the picture.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    private static final List<Double> PERCENTILES = List.of(50.0, 90.0, 99.0, 99.9);
+
+    @Param({"50", "1000", "100000", "1000000"})
+    public int size;
+
+    private EmployeeService employeeService;
+
+    private EmployeeColumns columns;
+
+    /**
+     * A fragment of a real employee's name, so the search has to confirm candidates rather than bail out early.
+     */
+    private String matchingSearch;
+
+    @Setup
+    public void setUp() {
+        List<Employee> employees = EmployeeDatasets.employees(size);
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(employees, Instant.now());
+        EmployeeSnapshotStore store = new EmployeeSnapshotStore(null) {
+            @Override
+            public EmployeeSnapshot current() {
+                return snapshot;
+            }
+        };
+        employeeService = new EmployeeService(null, store, null, null);
+        columns = snapshot.columns();
+
+        String name = employees.get(new Random(EmployeeDatasets.SEED).nextInt(size)).getEmployeeName();
+        String lastName = name.substring(name.lastIndexOf(' ') + 1).toLowerCase(Locale.ROOT);
+        matchingSearch = lastName.substring(0, Math.min(4, lastName.length()));
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return employeeService.getEmployeesByNameSearch(matchingSearch);
+    }
+
+    @Benchmark
+    public List<Employee> searchByNameNoMatch() {
+        return employeeService.getEmployeesByNameSearch("zqxj");
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return employeeService.getHighestSalary();
+    }
+
+    @Benchmark
+    public List<String> topTenHighestEarningNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public List<Employee> topHundredEarners() {
+        return employeeService.getTopEarners(100);
+    }
+
+    @Benchmark
+    public Map<String, Integer> salaryPercentiles() {
+        return employeeService.getSalaryPercentiles(PERCENTILES);
+    }
+
+    /**
+     * The title and age aggregation itself; the endpoints serve it memoized, so this is what the first dashboard load
+     * after a change pays.
+     */
+    @Benchmark
+    public EmployeeAggregates aggregatesUnmemoized() {
+        return EmployeeAggregates.of(columns);
+    }
+}
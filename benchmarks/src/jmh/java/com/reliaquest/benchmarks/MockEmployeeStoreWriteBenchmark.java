@@ -0,0 +1,84 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeJournal;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.MutationJournal;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Write throughput of the mock server's store with and without the persistence journal. Each operation creates an
+ * employee and deletes it again, so the store stays the same size however many operations run. Several threads write
+ * at once, so the journal's group commit gets batches to share an fsync.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class MockEmployeeStoreWriteBenchmark {
+
+    @Param({"memory", "journal"})
+    public String persistence;
+
+    @Param({"10"})
+    public long syncIntervalMs;
+
+    private final AtomicLong names = new AtomicLong();
+
+    private MockEmployeeStore store;
+
+    private MockEmployeeJournal journal;
+
+    private Path directory;
+
+    @Setup
+    public void setUp() throws IOException {
+        var employees = EmployeeDatasets.mockEmployees(10_000);
+        if ("journal".equals(persistence)) {
+            directory = Files.createTempDirectory("journal-benchmark");
+            journal = MockEmployeeJournal.open(directory, Duration.ofMillis(syncIntervalMs), 100_000);
+            store = new MockEmployeeStore(journal.recover(() -> employees), journal);
+            journal.attach(store);
+        } else {
+            store = new MockEmployeeStore(employees, MutationJournal.NONE);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (journal != null) {
+            journal.close();
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> createAndDelete() {
+        String name = "Benchmark Employee " + names.incrementAndGet();
+        store.add(new MockEmployee(UUID.randomUUID(), name, 100_000, 30, "Engineer", "benchmark@company.com"));
+        return store.removeFirstByName(name);
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeColumns;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Retained heap of the employee snapshot, measured by walking its object graph with JOL. The employees are decoded
+ * from a mock API payload the way the API decodes them, so every title and email is its own {@code String} as it
+ * would be in production, and the decoded {@code List<Employee>} is measured next to the columns built from it.
+ *
+ * <p>Run with {@code ./gradlew benchmarks:snapshotFootprint}, optionally {@code --args="1000 100000"} for other sizes.
+ */
+public final class SnapshotFootprint {
+
+    private static final TypeReference<EmployeeResponse<List<Employee>>> RESPONSE_TYPE = new TypeReference<>() {};
+
+    private SnapshotFootprint() {}
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[] {1_000, 100_000, 1_000_000};
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        System.out.printf(
+                "%10s  %18s  %18s  %18s%n", "employees", "List<Employee>", "EmployeeColumns", "EmployeeSnapshot");
+        for (int size : sizes) {
+            byte[] payload =
+                    objectMapper.writeValueAsBytes(Response.handledWith(EmployeeDatasets.mockEmployees(size)));
+            List<Employee> decoded = objectMapper.readValue(payload, RESPONSE_TYPE).getData();
+
+            long list = GraphLayout.parseInstance(decoded).totalSize();
+            long columns = GraphLayout.parseInstance(EmployeeColumns.of(decoded)).totalSize();
+            // Columns plus the name index; the columns share only the ID and name strings with the decoded list.
+            long snapshot = GraphLayout.parseInstance(EmployeeSnapshot.of(decoded, Instant.now()))
+                    .totalSize();
+
+            System.out.printf(
+                    "%10d  %18s  %18s  %18s%n",
+                    size, format(list, size), format(columns, size), format(snapshot, size));
+        }
+    }
+
+    private static String format(long bytes, int size) {
+        return "%.1f MB %4d B/emp".formatted(bytes / 1_048_576.0, bytes / size);
+    }
+}
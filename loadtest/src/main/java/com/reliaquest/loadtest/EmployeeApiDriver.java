@@ -0,0 +1,132 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sends one API call per {@link Operation}. By-ID lookups and searches pick from the employees listed when the driver
+ * was created; deletes remove employees this run created, so the dataset being measured does not shrink.
+ */
+final class EmployeeApiDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final String employeeUrl;
+
+    private final List<String> knownIds = new ArrayList<>();
+
+    private final List<String> searchTerms = new ArrayList<>();
+
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    EmployeeApiDriver(HttpClient httpClient, ObjectMapper objectMapper, String apiUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.employeeUrl = apiUrl + "/api/v2/employee";
+    }
+
+    /**
+     * Lists the employees once to learn the IDs and names to look up.
+     */
+    void discover() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(get(employeeUrl), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("Listing employees failed with " + response.statusCode());
+        }
+        for (JsonNode employee : objectMapper.readTree(response.body())) {
+            knownIds.add(employee.path("id").asText());
+            String name = employee.path("employee_name").asText("");
+            if (name.length() >= 3) {
+                searchTerms.add(name.substring(0, 3));
+            }
+        }
+        if (knownIds.isEmpty()) {
+            throw new IOException("The API listed no employees to look up");
+        }
+        if (searchTerms.isEmpty()) {
+            searchTerms.add("a");
+        }
+    }
+
+    /**
+     * The call a driver actually sent for an operation, which for a delete with nothing of ours to remove is a create.
+     */
+    record Call(Operation operation, int status) {}
+
+    Call execute(Operation operation, RandomGenerator random) throws IOException, InterruptedException {
+        return switch (operation) {
+            case LIST -> new Call(operation, send(get(employeeUrl)));
+            case SEARCH -> new Call(
+                    operation,
+                    send(get(employeeUrl + "/search/"
+                            + URLEncoder.encode(pick(searchTerms, random), StandardCharsets.UTF_8))));
+            case BY_ID -> new Call(operation, send(get(employeeUrl + "/" + pick(knownIds, random))));
+            case CREATE -> new Call(operation, create(random));
+            case DELETE -> {
+                String id = createdIds.poll();
+                // Nothing of ours left to delete yet; create instead, so the next delete has something to remove.
+                yield id != null
+                        ? new Call(operation, send(request(employeeUrl + "/" + id).DELETE().build()))
+                        : new Call(Operation.CREATE, create(random));
+            }
+        };
+    }
+
+    private int create(RandomGenerator random) throws IOException, InterruptedException {
+        byte[] body = objectMapper.writeValueAsBytes(Map.of(
+                "name", "Load Test " + Long.toHexString(random.nextLong()),
+                "salary", random.nextInt(30_000, 300_000),
+                "age", random.nextInt(18, 70),
+                "title", "Load Tester"));
+        HttpRequest request = request(employeeUrl)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        // The API answers 201 Created; any success carries the new employee.
+        if (response.statusCode() / 100 == 2) {
+            String id = objectMapper.readTree(response.body()).path("id").asText(null);
+            if (id != null) {
+                createdIds.add(id);
+            }
+        }
+        return response.statusCode();
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        // The body is read in full, as a real client would, but not kept.
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static HttpRequest get(String url) {
+        return request(url).GET().build();
+    }
+
+    private static HttpRequest.Builder request(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+    }
+
+    private static String pick(List<String> values, RandomGenerator random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histograms (microseconds, 3 significant digits) and outcome counts per operation, safe to record into from
+ * any number of threads.
+ */
+final class LatencyRecorder {
+
+    private final Map<Operation, ConcurrentHistogram> histograms = new EnumMap<>(Operation.class);
+
+    private final Map<Operation, Map<String, LongAdder>> outcomes = new EnumMap<>(Operation.class);
+
+    LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(3));
+            outcomes.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * @param outcome the response status, or the exception's simple name if there was no response
+     */
+    void record(Operation operation, long latencyNanos, String outcome) {
+        histograms.get(operation).recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        outcomes.get(operation).computeIfAbsent(outcome, ignored -> new LongAdder()).increment();
+    }
+
+    Histogram histogram(Operation operation) {
+        return histograms.get(operation).copy();
+    }
+
+    Histogram total() {
+        Histogram total = new Histogram(3);
+        histograms.values().forEach(histogram -> total.add(histogram.copy()));
+        return total;
+    }
+
+    Map<String, Long> outcomes(Operation operation) {
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.get(operation).forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,161 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a mix of list, search, by-ID, create and delete calls against the employee API and reports throughput and
+ * latency percentiles.
+ *
+ * <p>Each run warms up first (nothing is recorded), then measures for the configured duration. Requests run on virtual
+ * threads, so an open-loop run keeps sending at its rate however many requests are stuck waiting on the API.
+ */
+public final class LoadTest {
+
+    private final LoadTestOptions options;
+
+    private final EmployeeApiDriver driver;
+
+    private LoadTest(LoadTestOptions options, EmployeeApiDriver driver) {
+        this.options = options;
+        this.driver = driver;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        LocalStack stack = options.startsLocalStack() ? LocalStack.start(options, httpClient) : null;
+        try {
+            EmployeeApiDriver driver = new EmployeeApiDriver(httpClient, objectMapper, options.effectiveApiUrl());
+            driver.discover();
+            LoadTestReport report = new LoadTest(options, driver).run();
+            Path file = report.write(options.reportDir());
+            print(report);
+            System.out.println("Report written to " + file);
+        } finally {
+            if (stack != null) {
+                stack.close();
+            }
+        }
+    }
+
+    private LoadTestReport run() throws InterruptedException {
+        System.out.printf("Warming up for %ds%n", options.warmupSeconds());
+        phase(Duration.ofSeconds(options.warmupSeconds()), null);
+
+        System.out.printf(
+                "Measuring %s-loop load for %ds%n", options.openLoop() ? "open" : "closed", options.durationSeconds());
+        LatencyRecorder recorder = new LatencyRecorder();
+        Instant startedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        long start = System.nanoTime();
+        phase(Duration.ofSeconds(options.durationSeconds()), recorder);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return LoadTestReport.of(options, startedAt, recorder, seconds);
+    }
+
+    /**
+     * Runs load for {@code length} and waits for the requests it started to complete.
+     *
+     * @param recorder where to record, or null to discard results (warm-up)
+     */
+    private void phase(Duration length, LatencyRecorder recorder) throws InterruptedException {
+        long end = System.nanoTime() + length.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (options.openLoop()) {
+                openLoop(executor, end, recorder);
+            } else {
+                for (int i = 0; i < options.concurrency(); i++) {
+                    executor.execute(() -> closedLoopClient(end, recorder));
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends requests on a fixed schedule. Latency counts from when a request was due, not from when it was sent,
+     * so time spent behind a stalled API is measured instead of omitted.
+     */
+    private void openLoop(ExecutorService executor, long end, LatencyRecorder recorder) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        for (long i = 0; ; i++) {
+            long due = start + i * intervalNanos;
+            if (due >= end) {
+                return;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            executor.execute(() -> call(due, recorder));
+        }
+    }
+
+    private void closedLoopClient(long end, LatencyRecorder recorder) {
+        while (System.nanoTime() < end) {
+            call(System.nanoTime(), recorder);
+            if (options.thinkTimeMs() > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(options.thinkTimeMs()));
+            }
+        }
+    }
+
+    private void call(long startNanos, LatencyRecorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Operation operation = options.nextOperation(random);
+        String outcome;
+        try {
+            EmployeeApiDriver.Call call = driver.execute(operation, random);
+            operation = call.operation();
+            outcome = Integer.toString(call.status());
+        } catch (IOException ex) {
+            outcome = ex.getClass().getSimpleName();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (recorder != null) {
+            recorder.record(operation, System.nanoTime() - startNanos, outcome);
+        }
+    }
+
+    private static void print(LoadTestReport report) {
+        System.out.printf(
+                "%n%-8s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "op", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+        for (Map.Entry<String, LoadTestReport.Summary> entry : report.operations().entrySet()) {
+            print(entry.getKey(), entry.getValue());
+        }
+        print("total", report.total());
+    }
+
+    private static void print(String name, LoadTestReport.Summary summary) {
+        System.out.printf(
+                "%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                summary.requests(),
+                summary.errors(),
+                summary.throughput(),
+                summary.p50Ms(),
+                summary.p90Ms(),
+                summary.p99Ms(),
+                summary.p999Ms(),
+                summary.maxMs());
+    }
+}
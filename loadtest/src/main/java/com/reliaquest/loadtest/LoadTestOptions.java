@@ -0,0 +1,142 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Load test settings, from {@code --name=value} arguments.
+ *
+ * @param mode {@code closed}: {@code concurrency} clients each send their next request when the previous one completes;
+ *     {@code open}: requests arrive at {@code rate} per second whether or not earlier ones have completed, and latency
+ *     counts from when a request was due, so a stalled API cannot hide its queueing delay
+ * @param thinkTimeMs pause of a closed-loop client between requests
+ * @param mix relative weight of each operation
+ * @param apiUrl base URL of an API that is already running; null to start the mock server and the API locally
+ * @param rateLimit rate limit algorithm of the locally started mock server
+ * @param label free-form name for the run, e.g. a commit, carried into the report
+ */
+record LoadTestOptions(
+        String mode,
+        int concurrency,
+        int rate,
+        int durationSeconds,
+        int warmupSeconds,
+        long thinkTimeMs,
+        Map<Operation, Integer> mix,
+        int employees,
+        String apiUrl,
+        int apiPort,
+        int serverPort,
+        String rateLimit,
+        String label,
+        Path serverJar,
+        Path apiJar,
+        Path reportDir) {
+
+    static final String DEFAULT_MIX = "list=30,search=30,by-id=30,create=5,delete=5";
+
+    private static final Set<String> KNOWN = Set.of(
+            "mode",
+            "concurrency",
+            "rate",
+            "duration",
+            "warmup",
+            "think-time",
+            "mix",
+            "employees",
+            "api-url",
+            "api-port",
+            "server-port",
+            "rate-limit",
+            "label",
+            "server-jar",
+            "api-jar",
+            "report-dir");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                values.getOrDefault("mode", "closed"),
+                Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                Integer.parseInt(values.getOrDefault("duration", "60")),
+                Integer.parseInt(values.getOrDefault("warmup", "10")),
+                Long.parseLong(values.getOrDefault("think-time", "0")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Integer.parseInt(values.getOrDefault("employees", "1000")),
+                values.get("api-url"),
+                Integer.parseInt(values.getOrDefault("api-port", "8111")),
+                Integer.parseInt(values.getOrDefault("server-port", "8112")),
+                values.getOrDefault("rate-limit", "none"),
+                values.getOrDefault("label", "local"),
+                path(values, "server-jar"),
+                path(values, "api-jar"),
+                Path.of(values.getOrDefault(
+                        "report-dir", System.getProperty("loadtest.report-dir", "loadtest-reports"))));
+        if (!options.mode.equals("closed") && !options.mode.equals("open")) {
+            throw new IllegalArgumentException("--mode must be closed or open");
+        }
+        values.keySet().removeAll(KNOWN);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        return options;
+    }
+
+    boolean openLoop() {
+        return mode.equals("open");
+    }
+
+    boolean startsLocalStack() {
+        return apiUrl == null;
+    }
+
+    String effectiveApiUrl() {
+        return startsLocalStack() ? "http://localhost:" + apiPort : apiUrl;
+    }
+
+    /**
+     * Picks an operation with probability proportional to its weight in the mix.
+     */
+    Operation nextOperation(RandomGenerator random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty mix");
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] weight = part.trim().split("=");
+            int value = Integer.parseInt(weight[1]);
+            if (value > 0) {
+                weights.put(Operation.fromKey(weight[0]), value);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("--mix needs at least one operation with a positive weight");
+        }
+        return weights;
+    }
+
+    private static Path path(Map<String, String> values, String name) {
+        String value = values.getOrDefault(name, System.getProperty("loadtest." + name));
+        return value != null ? Path.of(value) : null;
+    }
+}
@@ -0,0 +1,141 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of one run. Written as JSON with sorted keys and one value per line, so two reports (e.g. from two builds)
+ * compare with a plain text diff.
+ *
+ * @param settings what was run, minus machine-specific paths
+ * @param total all operations together
+ */
+record LoadTestReport(
+        String label,
+        String startedAt,
+        Map<String, Object> settings,
+        Map<String, Object> environment,
+        Summary total,
+        Map<String, Summary> operations) {
+
+    static final ObjectMapper JSON = JsonMapper.builder()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .build();
+
+    /**
+     * Latencies in milliseconds.
+     *
+     * @param throughput requests completed per second of the measured period
+     * @param outcomes number of requests per response status, or per exception where there was no response
+     */
+    record Summary(
+            long requests,
+            long errors,
+            double throughput,
+            double meanMs,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs,
+            Map<String, Long> outcomes) {
+
+        static Summary of(Histogram histogram, Map<String, Long> outcomes, double seconds) {
+            long errors = outcomes.entrySet().stream()
+                    .filter(outcome -> !outcome.getKey().startsWith("2"))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            return new Summary(
+                    histogram.getTotalCount(),
+                    errors,
+                    round(histogram.getTotalCount() / seconds),
+                    round(histogram.getMean() / 1000),
+                    millis(histogram, 50),
+                    millis(histogram, 90),
+                    millis(histogram, 99),
+                    millis(histogram, 99.9),
+                    round(histogram.getMaxValue() / 1000.0),
+                    outcomes);
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return round(histogram.getValueAtPercentile(percentile) / 1000.0);
+        }
+    }
+
+    static LoadTestReport of(LoadTestOptions options, Instant startedAt, LatencyRecorder recorder, double seconds) {
+        Map<String, Summary> operations = new TreeMap<>();
+        Map<String, Long> allOutcomes = new TreeMap<>();
+        for (Operation operation : options.mix().keySet()) {
+            Map<String, Long> outcomes = recorder.outcomes(operation);
+            operations.put(operation.key(), Summary.of(recorder.histogram(operation), outcomes, seconds));
+            outcomes.forEach((outcome, count) -> allOutcomes.merge(outcome, count, Long::sum));
+        }
+        return new LoadTestReport(
+                options.label(),
+                startedAt.toString(),
+                settings(options),
+                currentEnvironment(),
+                Summary.of(recorder.total(), allOutcomes, seconds),
+                operations);
+    }
+
+    /**
+     * Writes the report under a timestamped name and as {@code latest.json}.
+     *
+     * @return the timestamped file
+     */
+    Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("loadtest-" + startedAt.replace(':', '-') + ".json");
+        JSON.writeValue(file.toFile(), this);
+        Files.copy(file, directory.resolve("latest.json"), StandardCopyOption.REPLACE_EXISTING);
+        return file;
+    }
+
+    private static Map<String, Object> settings(LoadTestOptions options) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("mode", options.mode());
+        if (options.openLoop()) {
+            settings.put("rate", options.rate());
+        } else {
+            settings.put("concurrency", options.concurrency());
+            settings.put("thinkTimeMs", options.thinkTimeMs());
+        }
+        settings.put("durationSeconds", options.durationSeconds());
+        settings.put("warmupSeconds", options.warmupSeconds());
+        Map<String, Integer> mix = new TreeMap<>();
+        options.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+        settings.put("mix", mix);
+        if (options.startsLocalStack()) {
+            settings.put("employees", options.employees());
+            settings.put("rateLimit", options.rateLimit());
+        }
+        return settings;
+    }
+
+    private static Map<String, Object> currentEnvironment() {
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("javaVersion", Runtime.version().toString());
+        environment.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        return environment;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,112 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The mock server and the API, each started from its boot jar in a process of its own so that neither competes with
+ * the load generator's JVM. Their logs go to the report directory. Logging is turned down to INFO; the DEBUG logging
+ * the modules ship with would dominate what is measured.
+ */
+final class LocalStack implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private final List<Process> processes = new ArrayList<>();
+
+    private LocalStack() {}
+
+    static LocalStack start(LoadTestOptions options, HttpClient httpClient) throws IOException, InterruptedException {
+        if (options.serverJar() == null || options.apiJar() == null) {
+            throw new IllegalArgumentException(
+                    "Starting the stack needs --server-jar and --api-jar, or --api-url of a running API");
+        }
+        Files.createDirectories(options.reportDir());
+        LocalStack stack = new LocalStack();
+        try {
+            stack.launch(
+                    options.serverJar(),
+                    options.reportDir().resolve("server.log"),
+                    "--server.port=" + options.serverPort(),
+                    "--mock.employees.max=" + options.employees(),
+                    "--mock.employees.seed=42",
+                    "--mock.rate-limit.algorithm=" + options.rateLimit(),
+                    "--logging.level.com.reliaquest=INFO");
+            awaitReady(httpClient, "http://localhost:" + options.serverPort() + "/admin/faults");
+
+            stack.launch(
+                    options.apiJar(),
+                    options.reportDir().resolve("api.log"),
+                    "--server.port=" + options.apiPort(),
+                    "--employee.api.base-url=http://localhost:" + options.serverPort() + "/api/v1/employee",
+                    "--logging.level.com.reliaquest=INFO",
+                    "--logging.level.org.springframework.cache=INFO",
+                    "--logging.level.org.springframework.web.reactive.function.client=INFO");
+            awaitReady(httpClient, "http://localhost:" + options.apiPort() + "/actuator/health");
+            return stack;
+        } catch (IOException | InterruptedException | RuntimeException ex) {
+            stack.close();
+            throw ex;
+        }
+    }
+
+    private void launch(Path jar, Path log, String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(List.of(args));
+        System.out.println("Starting " + jar.getFileName() + ", logging to " + log);
+        processes.add(new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start());
+    }
+
+    private static void awaitReady(HttpClient httpClient, String url) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        while (System.nanoTime() < deadline) {
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notUpYet) {
+                // Keep polling until the deadline.
+            }
+            Thread.sleep(500);
+        }
+        throw new IOException("Not ready after " + STARTUP_TIMEOUT.toSeconds() + "s: " + url);
+    }
+
+    /**
+     * Stops the API before the mock server, each gracefully first.
+     */
+    @Override
+    public void close() {
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            Process process = processes.get(i);
+            process.destroy();
+            try {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException ex) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        processes.clear();
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The API calls a load test mixes.
+ */
+enum Operation {
+    LIST("list"),
+    SEARCH("search"),
+    BY_ID("by-id"),
+    CREATE("create"),
+    DELETE("delete");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation in mix: " + key));
+    }
+}
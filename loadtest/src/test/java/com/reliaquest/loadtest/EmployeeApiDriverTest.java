@@ -0,0 +1,85 @@
+package com.reliaquest.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeApiDriverTest {
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    private HttpServer api;
+
+    private EmployeeApiDriver driver;
+
+    @BeforeEach
+    void setUp() throws IOException, InterruptedException {
+        // Stands in for the API: answers a create with 201 Created, like EmployeeController does.
+        api = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        api.createContext("/api/v2/employee", exchange -> {
+            requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI());
+            switch (exchange.getRequestMethod()) {
+                case "GET" -> respond(exchange, 200, "[{\"id\": \"1\", \"employee_name\": \"John Doe\"}]");
+                case "POST" -> respond(exchange, 201, "{\"id\": \"created-1\", \"employee_name\": \"Load Test\"}");
+                default -> respond(exchange, 200, "\"Load Test\"");
+            }
+        });
+        api.start();
+        driver = new EmployeeApiDriver(
+                HttpClient.newHttpClient(),
+                new ObjectMapper(),
+                "http://127.0.0.1:" + api.getAddress().getPort());
+        driver.discover();
+        requests.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        api.stop(0);
+    }
+
+    @Test
+    void execute_DeleteAfterCreatedAnswer_DeletesTheCreatedEmployee() throws Exception {
+        // Given
+        EmployeeApiDriver.Call create = driver.execute(Operation.CREATE, new SplittableRandom(42));
+
+        // When
+        EmployeeApiDriver.Call delete = driver.execute(Operation.DELETE, new SplittableRandom(42));
+
+        // Then
+        assertEquals(new EmployeeApiDriver.Call(Operation.CREATE, 201), create);
+        assertEquals(new EmployeeApiDriver.Call(Operation.DELETE, 200), delete);
+        assertEquals(List.of("POST /api/v2/employee", "DELETE /api/v2/employee/created-1"), requests);
+    }
+
+    @Test
+    void execute_DeleteWithNothingCreated_ReportedAsCreate() throws Exception {
+        // When
+        EmployeeApiDriver.Call call = driver.execute(Operation.DELETE, new SplittableRandom(42));
+
+        // Then
+        assertEquals(new EmployeeApiDriver.Call(Operation.CREATE, 201), call);
+        assertEquals(List.of("POST /api/v2/employee"), requests);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeJournal;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.MutationJournal;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PersistenceConfiguration {
+
+    /*
+     * Only with mock.persistence.enabled=true; otherwise creates and deletes live in memory and are lost on restart.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+    public MockEmployeeJournal mockEmployeeJournal(
+            @Value("${mock.persistence.directory:mock-data}") String directory,
+            @Value("${mock.persistence.sync-interval:10}") long syncIntervalMs,
+            @Value("${mock.persistence.compaction-threshold:100000}") int compactionThreshold)
+            throws IOException {
+        return MockEmployeeJournal.open(Path.of(directory), Duration.ofMillis(syncIntervalMs), compactionThreshold);
+    }
+
+    /*
+     * With persistence on, the generated dataset only seeds the very first boot; later boots recover from the journal
+     * and never create it.
+     */
+    @Bean
+    public MockEmployeeStore mockEmployeeStore(
+            ObjectProvider<List<MockEmployee>> mockEmployees,
+            Optional<MockEmployeeJournal> mockEmployeeJournal,
+            @Value("${mock.changes.capacity:10000}") int changeCapacity)
+            throws IOException {
+        if (mockEmployeeJournal.isEmpty()) {
+            return new MockEmployeeStore(mockEmployees.getObject(), MutationJournal.NONE, changeCapacity);
+        }
+        MockEmployeeJournal journal = mockEmployeeJournal.get();
+        MockEmployeeStore store =
+                new MockEmployeeStore(journal.recover(mockEmployees::getObject), journal, changeCapacity);
+        journal.attach(store);
+        return store;
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.fault.MockEndpoint;
+import com.reliaquest.server.limit.BackoffWindowRequestLimiter;
+import com.reliaquest.server.limit.RequestLimiter;
+import com.reliaquest.server.limit.SlidingWindowRequestLimiter;
+import com.reliaquest.server.limit.TokenBucketRequestLimiter;
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import java.time.Duration;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Slf4j
+@Configuration
+public class RequestLimitConfiguration implements WebMvcConfigurer {
+
+    /*
+     * random (default): the original unpublished budget, 5-9 requests then a 30-89s backoff, chosen at startup.
+     * backoff-window: the same behaviour with mock.rate-limit.limit requests and a mock.rate-limit.window backoff.
+     * token-bucket: bursts of up to limit, refilled at limit per window.
+     * sliding-window: at most limit requests in any window.
+     * none: no rate limiting.
+     */
+    @Value("${mock.rate-limit.algorithm:random}")
+    private String algorithm;
+
+    @Value("${mock.rate-limit.limit:10}")
+    private int limit;
+
+    @Value("${mock.rate-limit.window:60000}")
+    private long windowMs;
+
+    @Value("${mock.rate-limit.per-client:false}")
+    private boolean perClient;
+
+    @Value("${mock.rate-limit.client-header:X-Client-Id}")
+    private String clientHeader;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestLimitInterceptor(limiters(), perClient ? clientHeader : null))
+                .addPathPatterns(MockEndpoint.BASE_PATH + "/**");
+    }
+
+    private LongFunction<RequestLimiter> limiters() {
+        Duration window = Duration.ofMillis(windowMs);
+        return switch (algorithm) {
+            case "random" -> {
+                int randomLimit = RandomGenerator.getDefault().nextInt(5, 10);
+                Duration randomBackoff = Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+                log.debug("Rate limit: {} requests, then {} backoff", randomLimit, randomBackoff);
+                yield now -> new BackoffWindowRequestLimiter(randomLimit, randomBackoff, now);
+            }
+            case "backoff-window" -> now -> new BackoffWindowRequestLimiter(limit, window, now);
+            case "token-bucket" -> now -> new TokenBucketRequestLimiter(limit, window, now);
+            case "sliding-window" -> now -> new SlidingWindowRequestLimiter(limit, window, now);
+            case "none" -> now -> RequestLimiter.UNLIMITED;
+            default -> throw new IllegalArgumentException("Unknown mock.rate-limit.algorithm: " + algorithm);
+        };
+    }
+}
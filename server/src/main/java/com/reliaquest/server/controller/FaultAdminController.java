@@ -0,0 +1,66 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.fault.FaultProfiles;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Switches fault profiles at runtime. Targets are the endpoint keys (list, get-by-id, changes, create, delete) or
+ * {@value FaultProfiles#ALL}. Not rate limited and never subject to faults itself.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultAdminController {
+
+    private final FaultProfiles faultProfiles;
+
+    @GetMapping()
+    public Response<Map<String, FaultProfile>> getFaults() {
+        return Response.handledWith(faultProfiles.all());
+    }
+
+    @PutMapping("/{target}")
+    public ResponseEntity<Response<Map<String, FaultProfile>>> setFault(
+            @PathVariable("target") String target, @RequestBody FaultProfile profile) {
+        if (!FaultProfiles.isTarget(target)) {
+            return unknownTarget(target);
+        }
+        faultProfiles.set(target, profile);
+        log.info("Fault profile for {} set to {}", target, profile);
+        return ResponseEntity.ok(Response.handledWith(faultProfiles.all()));
+    }
+
+    @DeleteMapping("/{target}")
+    public ResponseEntity<Response<Map<String, FaultProfile>>> clearFault(@PathVariable("target") String target) {
+        if (!FaultProfiles.isTarget(target)) {
+            return unknownTarget(target);
+        }
+        faultProfiles.clear(target);
+        log.info("Fault profile for {} cleared", target);
+        return ResponseEntity.ok(Response.handledWith(faultProfiles.all()));
+    }
+
+    @DeleteMapping()
+    public Response<Map<String, FaultProfile>> clearFaults() {
+        faultProfiles.clearAll();
+        log.info("All fault profiles cleared");
+        return Response.handledWith(faultProfiles.all());
+    }
+
+    private static ResponseEntity<Response<Map<String, FaultProfile>>> unknownTarget(String target) {
+        return ResponseEntity.badRequest().body(Response.error("Unknown fault target: " + target));
+    }
+}
@@ -3,10 +3,16 @@ package com.reliaquest.server.controller;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChangeFeed;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.Versioned;
+import com.reliaquest.server.web.MockEmployeeListWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -17,35 +23,86 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String EPOCH_HEADER = "X-Employees-Epoch";
+
+    public static final String VERSION_HEADER = "X-Employees-Version";
+
+    public static final String DELETED_ID_HEADER = "X-Deleted-Employee-Id";
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final MockEmployeeListWriter mockEmployeeListWriter;
+
+    /**
+     * Streamed rather than returned, so the response never has to be built in memory for the whole dataset. Tagged with
+     * the store version; a matching {@code If-None-Match} gets a bodiless 304 instead. The version and its epoch are
+     * also sent as headers, as the starting point for {@link #getChanges}.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public void getEmployees(WebRequest request, HttpServletResponse response) throws IOException {
+        Versioned<List<MockEmployee>> employees = mockEmployeeService.getVersionedMockEmployees();
+        response.setHeader(EPOCH_HEADER, mockEmployeeService.getVersionEpoch());
+        response.setHeader(VERSION_HEADER, Long.toString(employees.version()));
+        if (request.checkNotModified(etag(employees.version()))) {
+            return;
+        }
+        mockEmployeeListWriter.write(employees.value(), response);
     }
 
+    /**
+     * Tagged with the version the employee was stored under; Spring answers a matching {@code If-None-Match} with 304.
+     */
     @GetMapping("/{id}")
     public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
         return mockEmployeeService
-                .findById(uuid)
-                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .findVersionedById(uuid)
+                .map(employee -> ResponseEntity.ok()
+                        .eTag(etag(employee.version()))
+                        .body(Response.handledWith(employee.value())))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    /**
+     * Change feed for incremental sync. Answers 410 Gone once the requested version has fallen out of the retained
+     * changes, or belongs to another epoch (i.e. the server restarted); the caller then reloads the full list.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<Response<MockEmployeeChangeFeed>> getChanges(
+            @RequestParam("since") long since, @RequestParam(value = "epoch", required = false) String epoch) {
+        return mockEmployeeService
+                .getChangesSince(epoch, since)
+                .map(feed -> ResponseEntity.ok(Response.handledWith(feed)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE)
+                        .body(Response.error("Changes since version " + since + " are no longer available")));
+    }
+
     @PostMapping()
     public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    /**
+     * Deletes the oldest employee with the given name. Names are not unique, so the ID of the employee actually removed
+     * is sent as a header; the body stays a plain flag.
+     */
     @DeleteMapping()
-    public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
-        return Response.handledWith(mockEmployeeService.delete(input));
+    public ResponseEntity<Response<Boolean>> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
+        Optional<MockEmployee> removed = mockEmployeeService.delete(input);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        removed.ifPresent(employee -> response.header(DELETED_ID_HEADER, employee.getId().toString()));
+        return response.body(Response.handledWith(removed.isPresent()));
+    }
+
+    private String etag(long version) {
+        return "\"%s-%d\"".formatted(mockEmployeeService.getVersionEpoch(), version);
     }
 }
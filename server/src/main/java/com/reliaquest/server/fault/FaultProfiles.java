@@ -0,0 +1,53 @@
+package com.reliaquest.server.fault;
+
+import com.reliaquest.server.model.FaultProfile;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * The fault profiles currently in force, changed at runtime through the admin endpoint. A profile set for
+ * {@value #ALL} applies to every endpoint that has none of its own.
+ */
+@Component
+public class FaultProfiles {
+
+    public static final String ALL = "all";
+
+    private final Map<String, FaultProfile> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * @return the profile for {@code endpoint}, or null if requests to it are left alone
+     */
+    public FaultProfile forEndpoint(MockEndpoint endpoint) {
+        if (profiles.isEmpty()) {
+            return null;
+        }
+        FaultProfile profile = profiles.get(endpoint.key());
+        return profile != null ? profile : profiles.get(ALL);
+    }
+
+    /**
+     * @param target an endpoint key or {@value #ALL}
+     */
+    public void set(String target, FaultProfile profile) {
+        profiles.put(target, profile);
+    }
+
+    public void clear(String target) {
+        profiles.remove(target);
+    }
+
+    public void clearAll() {
+        profiles.clear();
+    }
+
+    public Map<String, FaultProfile> all() {
+        return new TreeMap<>(profiles);
+    }
+
+    public static boolean isTarget(String target) {
+        return ALL.equals(target) || MockEndpoint.fromKey(target).isPresent();
+    }
+}
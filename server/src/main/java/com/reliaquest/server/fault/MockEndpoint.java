@@ -0,0 +1,52 @@
+package com.reliaquest.server.fault;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The mock employee API's endpoints, as fault profiles address them.
+ */
+public enum MockEndpoint {
+    LIST("list"),
+    GET_BY_ID("get-by-id"),
+    CHANGES("changes"),
+    CREATE("create"),
+    DELETE("delete");
+
+    public static final String BASE_PATH = "/api/v1/employee";
+
+    private final String key;
+
+    MockEndpoint(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Optional<MockEndpoint> fromKey(String key) {
+        return Arrays.stream(values()).filter(endpoint -> endpoint.key.equals(key)).findFirst();
+    }
+
+    /**
+     * @param path request path without the context path
+     * @return the endpoint the request is for, or empty if it is not for the employee API
+     */
+    public static Optional<MockEndpoint> resolve(String method, String path) {
+        if (!path.startsWith(BASE_PATH)) {
+            return Optional.empty();
+        }
+        String rest = path.substring(BASE_PATH.length());
+        if (!rest.isEmpty() && !rest.startsWith("/")) {
+            return Optional.empty();
+        }
+        boolean root = rest.isEmpty() || rest.equals("/");
+        return switch (method) {
+            case "GET" -> Optional.of(root ? LIST : rest.equals("/changes") ? CHANGES : GET_BY_ID);
+            case "POST" -> root ? Optional.of(CREATE) : Optional.empty();
+            case "DELETE" -> root ? Optional.of(DELETE) : Optional.empty();
+            default -> Optional.empty();
+        };
+    }
+}
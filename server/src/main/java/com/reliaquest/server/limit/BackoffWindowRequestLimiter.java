@@ -0,0 +1,44 @@
+package com.reliaquest.server.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The mock API's original behaviour: {@code limit} requests go through, then everything is rejected until
+ * {@code backoff} has passed since the last request that was allowed.
+ */
+public class BackoffWindowRequestLimiter implements RequestLimiter {
+
+    private final int limit;
+
+    private final long backoffNanos;
+
+    private final AtomicReference<State> state;
+
+    private record State(int count, long lastAllowedAt) {}
+
+    public BackoffWindowRequestLimiter(int limit, Duration backoff, long nowNanos) {
+        this.limit = limit;
+        this.backoffNanos = backoff.toNanos();
+        this.state = new AtomicReference<>(new State(0, nowNanos));
+    }
+
+    @Override
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            int count = current.count();
+            if (count >= limit) {
+                long reopensIn = current.lastAllowedAt() + backoffNanos - nowNanos;
+                if (reopensIn > 0) {
+                    return reopensIn;
+                }
+                count = 0;
+            }
+            State next = new State(count + 1, Math.max(nowNanos, current.lastAllowedAt()));
+            if (state.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
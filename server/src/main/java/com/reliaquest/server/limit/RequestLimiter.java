@@ -0,0 +1,18 @@
+package com.reliaquest.server.limit;
+
+/**
+ * One request budget. Implementations are lock-free: state lives in a single immutable value swapped by CAS, so a
+ * burst of concurrent requests can never all observe the same remaining budget and all go through.
+ */
+public interface RequestLimiter {
+
+    RequestLimiter UNLIMITED = nowNanos -> 0;
+
+    /**
+     * Takes one request from the budget if there is one left.
+     *
+     * @param nowNanos monotonic time of the request, as from {@link System#nanoTime()}
+     * @return 0 if the request may go ahead, otherwise the nanoseconds until one could
+     */
+    long tryAcquire(long nowNanos);
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.server.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Allows {@code limit} requests in any {@code window}, approximated from the counts of the current and the previous
+ * fixed window: the previous window's count is weighted by how much of it still overlaps the sliding window. This
+ * avoids the double burst a plain fixed window allows around its boundary, in constant space per budget.
+ */
+public class SlidingWindowRequestLimiter implements RequestLimiter {
+
+    private final int limit;
+
+    private final long windowNanos;
+
+    private final AtomicReference<State> state;
+
+    private record State(long windowStart, int previous, int current) {}
+
+    public SlidingWindowRequestLimiter(int limit, Duration window, long nowNanos) {
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+        this.state = new AtomicReference<>(new State(nowNanos, 0, 0));
+    }
+
+    @Override
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            State rolled = roll(current, nowNanos);
+            long intoWindow = Math.max(0, nowNanos - rolled.windowStart());
+            double previousWeight = 1 - (double) intoWindow / windowNanos;
+            double estimate = rolled.previous() * previousWeight + rolled.current();
+            if (estimate + 1 > limit) {
+                return waitNanos(rolled, intoWindow);
+            }
+            State next = new State(rolled.windowStart(), rolled.previous(), rolled.current() + 1);
+            if (state.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private State roll(State state, long nowNanos) {
+        long elapsed = nowNanos - state.windowStart();
+        if (elapsed >= 2 * windowNanos) {
+            return new State(nowNanos, 0, 0);
+        }
+        if (elapsed >= windowNanos) {
+            return new State(state.windowStart() + windowNanos, state.current(), 0);
+        }
+        return state;
+    }
+
+    /**
+     * Time until the previous window's weight has decayed enough to admit one more request; if the current window alone
+     * is full, the end of the current window.
+     */
+    private long waitNanos(State state, long intoWindow) {
+        long untilWindowEnd = windowNanos - intoWindow;
+        if (state.current() + 1 > limit || state.previous() == 0) {
+            return Math.max(1, untilWindowEnd);
+        }
+        double weightNeeded = (double) (limit - 1 - state.current()) / state.previous();
+        long admitAt = (long) Math.ceil(windowNanos * (1 - weightNeeded));
+        return Math.max(1, Math.min(untilWindowEnd, admitAt - intoWindow));
+    }
+}
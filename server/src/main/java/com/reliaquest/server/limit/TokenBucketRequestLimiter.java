@@ -0,0 +1,41 @@
+package com.reliaquest.server.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Allows bursts of up to {@code capacity} requests and a sustained rate of {@code capacity} per {@code refillPeriod}.
+ */
+public class TokenBucketRequestLimiter implements RequestLimiter {
+
+    private final int capacity;
+
+    private final double tokensPerNano;
+
+    private final AtomicReference<State> state;
+
+    private record State(double tokens, long refilledAt) {}
+
+    public TokenBucketRequestLimiter(int capacity, Duration refillPeriod, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / refillPeriod.toNanos();
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    @Override
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            // Concurrent callers may read the clock out of order; time never runs backwards for the bucket.
+            long elapsed = Math.max(0, nowNanos - current.refilledAt());
+            double tokens = Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+            if (tokens < 1) {
+                return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+            }
+            State next = new State(tokens - 1, Math.max(nowNanos, current.refilledAt()));
+            if (state.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * What goes wrong with requests to one endpoint. Every request is first delayed by a sample of {@code latency}; then a
+ * {@code resetRate} share of requests have their connection dropped mid-response and an {@code errorRate} share fail
+ * with {@code errorStatus}. Requests that get through write their body {@code dripChunkBytes} at a time, pausing
+ * {@code dripIntervalMs} between chunks, when {@code dripChunkBytes} is set.
+ *
+ * @param latency delay before the request is handled, or null for none
+ * @param errorStatus status of injected errors; 503 if not given
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record FaultProfile(
+        LatencyDistribution latency,
+        double errorRate,
+        Integer errorStatus,
+        double resetRate,
+        int dripChunkBytes,
+        long dripIntervalMs) {
+
+    public FaultProfile {
+        if (errorRate < 0 || resetRate < 0 || errorRate + resetRate > 1) {
+            throw new IllegalArgumentException("error_rate and reset_rate must be >= 0 and add up to at most 1");
+        }
+        if (errorStatus == null) {
+            errorStatus = 503;
+        } else if (errorStatus < 400 || errorStatus > 599) {
+            throw new IllegalArgumentException("error_status must be a 4xx or 5xx status");
+        }
+        if (dripChunkBytes < 0 || dripIntervalMs < 0) {
+            throw new IllegalArgumentException("drip_chunk_bytes and drip_interval_ms must not be negative");
+        }
+    }
+}
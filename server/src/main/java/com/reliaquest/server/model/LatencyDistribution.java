@@ -0,0 +1,72 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import java.util.random.RandomGenerator;
+
+/**
+ * How long an injected delay lasts, in milliseconds.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = LatencyDistribution.Fixed.class, name = "fixed"),
+    @JsonSubTypes.Type(value = LatencyDistribution.Uniform.class, name = "uniform"),
+    @JsonSubTypes.Type(value = LatencyDistribution.LogNormal.class, name = "log-normal")
+})
+public sealed interface LatencyDistribution {
+
+    long sampleMillis(RandomGenerator random);
+
+    record Fixed(long millis) implements LatencyDistribution {
+
+        public Fixed {
+            if (millis < 0) {
+                throw new IllegalArgumentException("millis must not be negative");
+            }
+        }
+
+        @Override
+        public long sampleMillis(RandomGenerator random) {
+            return millis;
+        }
+    }
+
+    record Uniform(long min, long max) implements LatencyDistribution {
+
+        public Uniform {
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException("Need 0 <= min <= max");
+            }
+        }
+
+        @Override
+        public long sampleMillis(RandomGenerator random) {
+            return min == max ? min : random.nextLong(min, max + 1);
+        }
+    }
+
+    /**
+     * Right-skewed like real service latency: most calls near the median, with a long tail that puts 1% of them
+     * beyond {@code p99}.
+     */
+    record LogNormal(long median, long p99) implements LatencyDistribution {
+
+        /**
+         * Standard normal quantile at 0.99.
+         */
+        private static final double Z_99 = 2.3263478740408408;
+
+        public LogNormal {
+            if (median <= 0 || p99 < median) {
+                throw new IllegalArgumentException("Need 0 < median <= p99");
+            }
+        }
+
+        @Override
+        public long sampleMillis(RandomGenerator random) {
+            double mu = Math.log(median);
+            double sigma = (Math.log(p99) - mu) / Z_99;
+            return Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+        }
+    }
+}
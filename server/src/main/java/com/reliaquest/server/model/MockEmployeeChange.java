@@ -0,0 +1,26 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+/**
+ * One entry of the change feed: a create carries the employee, a delete only its ID.
+ *
+ * @param version the store version this change produced
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeeChange(long version, Type type, UUID id, MockEmployee employee) {
+
+    public static MockEmployeeChange created(long version, MockEmployee employee) {
+        return new MockEmployeeChange(version, Type.CREATED, employee.getId(), employee);
+    }
+
+    public static MockEmployeeChange deleted(long version, MockEmployee employee) {
+        return new MockEmployeeChange(version, Type.DELETED, employee.getId(), null);
+    }
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Changes after a requested version, oldest first.
+ *
+ * @param epoch identifies the store instance the versions belong to
+ * @param version the version the caller is at after applying {@code changes}; pass it as {@code since} next time
+ */
+public record MockEmployeeChangeFeed(String epoch, long version, List<MockEmployeeChange> changes) {}
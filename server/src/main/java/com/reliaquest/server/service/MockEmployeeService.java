@@ -4,11 +4,12 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChangeFeed;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.Versioned;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +23,46 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    /**
+     * @return an immutable point-in-time view of all employees, in insertion order
+     */
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.snapshot();
+    }
+
+    /**
+     * Same as {@link #getMockEmployees()}, with the store version it reflects for conditional requests.
+     */
+    public Versioned<List<MockEmployee>> getVersionedMockEmployees() {
+        return mockEmployeeStore.versionedSnapshot();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
+    }
+
+    public Optional<Versioned<MockEmployee>> findVersionedById(@NonNull UUID uuid) {
+        return mockEmployeeStore.findVersionedById(uuid);
+    }
+
+    /**
+     * @param epoch the epoch the caller's version came from, if known; versions from another epoch are never valid
+     * @return the changes after {@code since}, or empty if the caller has to reload the full list instead
+     */
+    public Optional<MockEmployeeChangeFeed> getChangesSince(String epoch, long since) {
+        if (epoch != null && !epoch.equals(mockEmployeeStore.epoch())) {
+            return Optional.empty();
+        }
+        return mockEmployeeStore.changesSince(since);
+    }
+
+    /**
+     * Prefixed to every ETag, so tags handed out before a restart never match afterwards.
+     */
+    public String getVersionEpoch() {
+        return mockEmployeeStore.epoch();
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +70,17 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        mockEmployeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
-    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
-        }
-
-        return false;
+    /**
+     * @return the employee removed, the oldest one with the given name, or empty if there was none
+     */
+    public Optional<MockEmployee> delete(@NonNull DeleteMockEmployeeInput input) {
+        final var mockEmployee = mockEmployeeStore.removeFirstByName(input.getName());
+        mockEmployee.ifPresent(removed -> log.debug("Removed employee: {}", removed));
+        return mockEmployee;
     }
 }
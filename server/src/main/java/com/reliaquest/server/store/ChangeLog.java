@@ -0,0 +1,69 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bounded ring of the most recent changes, for clients that sync incrementally. Once a change is overwritten, callers
+ * still behind it can no longer catch up from the ring and must reload the full list.
+ */
+class ChangeLog {
+
+    private final MockEmployeeChange[] ring;
+
+    private int start;
+
+    private int size;
+
+    /**
+     * Every change after this version is still in the ring.
+     */
+    private long floor;
+
+    private long latest;
+
+    ChangeLog(int capacity, long initialVersion) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Change log capacity must be at least 1, was " + capacity);
+        }
+        this.ring = new MockEmployeeChange[capacity];
+        this.floor = initialVersion;
+        this.latest = initialVersion;
+    }
+
+    synchronized void record(MockEmployeeChange change) {
+        if (size == ring.length) {
+            floor = ring[start].version();
+            ring[start] = change;
+            start = (start + 1) % ring.length;
+        } else {
+            ring[(start + size) % ring.length] = change;
+            size++;
+        }
+        latest = change.version();
+    }
+
+    synchronized long latest() {
+        return latest;
+    }
+
+    /**
+     * @return the changes after {@code version} in order, or empty if some of them have already been overwritten or the
+     *     version is not one this log has handed out
+     */
+    synchronized Optional<List<MockEmployeeChange>> since(long version) {
+        if (version < floor || version > latest) {
+            return Optional.empty();
+        }
+        List<MockEmployeeChange> changes = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            MockEmployeeChange change = ring[(start + i) % ring.length];
+            if (change.version() > version) {
+                changes.add(change);
+            }
+        }
+        return Optional.of(changes);
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Produces the startup dataset: reads it from the snapshot file when one matches the requested seed and size,
+ * otherwise generates it and, if a snapshot file is configured, saves it there for the next boot. The file records the
+ * seed it was generated from, so without a configured seed the saved dataset is reused rather than replaced by one
+ * from a new random seed on every boot.
+ */
+@Slf4j
+public final class MockEmployeeDataset {
+
+    /**
+     * Above this size, logging every employee at startup would cost more than generating them.
+     */
+    private static final int MAX_LOGGED_EMPLOYEES = 1000;
+
+    private MockEmployeeDataset() {}
+
+    /**
+     * @param seed the seed to generate from, or null to reuse the snapshot file's or else draw a random one
+     * @param snapshotFile where to load and save the dataset, or null to always generate it
+     */
+    public static List<MockEmployee> load(int maxEmployees, Long seed, Path snapshotFile) {
+        long startedAt = System.nanoTime();
+        if (snapshotFile != null && Files.isReadable(snapshotFile)) {
+            try {
+                MockEmployeeSnapshotCodec.Snapshot snapshot = MockEmployeeSnapshotCodec.read(snapshotFile);
+                if ((seed == null || snapshot.tag() == seed) && snapshot.employees().size() == maxEmployees) {
+                    log.info(
+                            "Loaded {} employees from {} in {} ms",
+                            maxEmployees,
+                            snapshotFile,
+                            (System.nanoTime() - startedAt) / 1_000_000);
+                    return snapshot.employees();
+                }
+                log.info("Snapshot {} was generated for different settings, regenerating", snapshotFile);
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Could not read snapshot {}, regenerating", snapshotFile, ex);
+            }
+        }
+
+        long effectiveSeed = seed != null ? seed : RandomGenerator.getDefault().nextLong();
+        List<MockEmployee> employees = MockEmployeeGenerator.generate(maxEmployees, effectiveSeed);
+        log.info(
+                "Generated {} employees with seed {} in {} ms",
+                maxEmployees,
+                effectiveSeed,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        if (log.isDebugEnabled() && employees.size() <= MAX_LOGGED_EMPLOYEES) {
+            employees.forEach(mockEmployee -> log.debug("Created employee: {}", mockEmployee));
+        }
+
+        if (snapshotFile != null) {
+            try {
+                MockEmployeeSnapshotCodec.write(
+                        snapshotFile, new MockEmployeeSnapshotCodec.Snapshot(effectiveSeed, employees));
+                log.info("Saved snapshot to {}", snapshotFile);
+            } catch (IOException ex) {
+                log.warn("Could not write snapshot {}", snapshotFile, ex);
+            }
+        }
+        return employees;
+    }
+}
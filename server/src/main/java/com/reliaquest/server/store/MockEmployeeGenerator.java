@@ -0,0 +1,89 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Generates mock employees in parallel and deterministically. The dataset is cut into fixed-size chunks, and each chunk
+ * draws from its own random sequence derived from the seed and the chunk number, so the same seed yields the same
+ * employees, in the same order, no matter how many cores do the work.
+ *
+ * <p>A {@link Faker} is expensive to build, so each worker thread keeps one and reseeds its {@link Random} at the start
+ * of every chunk.
+ */
+public final class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 8192;
+
+    private static final ThreadLocal<SeededFaker> FAKERS = ThreadLocal.withInitial(SeededFaker::create);
+
+    private MockEmployeeGenerator() {}
+
+    public static List<MockEmployee> generate(int count, long seed) {
+        int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<List<MockEmployee>> generated = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> generateChunk(
+                        seed, chunk, Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE)))
+                .toList();
+
+        List<MockEmployee> employees = new ArrayList<>(count);
+        generated.forEach(employees::addAll);
+        return employees;
+    }
+
+    private static List<MockEmployee> generateChunk(long seed, int chunk, int size) {
+        SeededFaker seeded = FAKERS.get();
+        seeded.random().setSeed(mix(mix(seed) + chunk));
+        Faker faker = seeded.faker();
+
+        List<MockEmployee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(randomUuid(seeded.random()))
+                    .name(faker.name().fullName())
+                    .salary(faker.number().numberBetween(30000, 500000))
+                    .age(faker.number().numberBetween(16, 70))
+                    .title(faker.job().title())
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()))
+                    .build());
+        }
+        return employees;
+    }
+
+    /**
+     * A version 4 UUID built from the seeded random instead of {@link UUID#randomUUID()}'s secure, unseedable one.
+     */
+    private static UUID randomUuid(Random random) {
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * SplitMix64 finalizer, so neighbouring seeds and chunk numbers still get unrelated sequences.
+     */
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record SeededFaker(Faker faker, Random random) {
+
+        static SeededFaker create() {
+            Random random = new Random();
+            // Pinned rather than the JVM default, which would make the same seed give different names per machine.
+            return new SeededFaker(new Faker(Locale.US, random), random);
+        }
+    }
+}
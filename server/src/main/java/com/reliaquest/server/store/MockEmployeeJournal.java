@@ -0,0 +1,468 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only, file-backed {@link MutationJournal} for the mock server's persistence mode.
+ *
+ * <p><b>Files.</b> The directory holds one compacted snapshot ({@value #SNAPSHOT_FILE}, written by
+ * {@link MockEmployeeSnapshotCodec} and tagged with a generation) and journal segments named
+ * {@code journal-<generation>.log}. Replaying every segment at or after the snapshot's generation on top of the
+ * snapshot gives the current contents. Each record is framed as length, CRC32 and payload, so a write torn by a crash
+ * is detected and cut off on recovery.
+ *
+ * <p><b>Group commit.</b> Appends only go into a buffer. A background task flushes and fsyncs every sync interval, and
+ * writers wait in {@link #awaitDurable} until the sync covering their record has finished. One fsync therefore makes a
+ * whole batch of writes durable.
+ *
+ * <p><b>Compaction.</b> Once a segment has collected enough records, the store is asked for its contents at the exact
+ * point where the journal rolls over to a new segment. Those contents are written as the new snapshot, and the
+ * segments before it are deleted only once the snapshot and its directory entry have been forced to disk.
+ */
+@Slf4j
+public class MockEmployeeJournal implements MutationJournal, AutoCloseable {
+
+    static final String SNAPSHOT_FILE = "employees.snapshot";
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("journal-(\\d+)\\.log");
+
+    private static final byte CREATED = 1;
+
+    private static final byte DELETED = 2;
+
+    private static final int MAX_RECORD_LENGTH = 1 << 20;
+
+    private final Path directory;
+
+    private final Duration syncInterval;
+
+    private final int compactionThreshold;
+
+    private final MockEmployeeSnapshotCodec.Fsync fsync;
+
+    private final ScheduledExecutorService syncer = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().daemon().name("journal-sync").unstarted(runnable));
+
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(
+            runnable -> Thread.ofPlatform().daemon().name("journal-compaction").unstarted(runnable));
+
+    private final AtomicBoolean compacting = new AtomicBoolean();
+
+    private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream(256);
+
+    private final DataOutputStream record = new DataOutputStream(recordBuffer);
+
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Monitor writers wait on in {@link #awaitDurable}.
+     */
+    private final Object durability = new Object();
+
+    // Guarded by this.
+    private long generation;
+
+    private FileChannel channel;
+
+    private DataOutputStream out;
+
+    private long appended;
+
+    private long recordsSinceCompaction;
+
+    private volatile long durable;
+
+    private volatile IOException failure;
+
+    private volatile boolean closed;
+
+    private MockEmployeeStore store;
+
+    private MockEmployeeJournal(
+            Path directory, Duration syncInterval, int compactionThreshold, MockEmployeeSnapshotCodec.Fsync fsync) {
+        this.directory = directory;
+        this.syncInterval = syncInterval;
+        this.compactionThreshold = compactionThreshold;
+        this.fsync = fsync;
+    }
+
+    public static MockEmployeeJournal open(Path directory, Duration syncInterval, int compactionThreshold)
+            throws IOException {
+        return open(directory, syncInterval, compactionThreshold, MockEmployeeSnapshotCodec.Fsync.DISK);
+    }
+
+    static MockEmployeeJournal open(
+            Path directory, Duration syncInterval, int compactionThreshold, MockEmployeeSnapshotCodec.Fsync fsync)
+            throws IOException {
+        Files.createDirectories(directory);
+        return new MockEmployeeJournal(directory, syncInterval, compactionThreshold, fsync);
+    }
+
+    /**
+     * Rebuilds the contents from the snapshot and the journal, then opens the journal for appending. On the first boot
+     * there is no snapshot yet, so {@code initial} is called once and becomes the snapshot that later boots replay
+     * from; later boots never call it.
+     */
+    public synchronized List<MockEmployee> recover(Supplier<List<MockEmployee>> initial) throws IOException {
+        long startedAt = System.nanoTime();
+        Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        MockEmployeeSnapshotCodec.Snapshot snapshot;
+        if (Files.exists(snapshotFile)) {
+            snapshot = MockEmployeeSnapshotCodec.read(snapshotFile);
+        } else {
+            snapshot = new MockEmployeeSnapshotCodec.Snapshot(0, initial.get());
+            MockEmployeeSnapshotCodec.write(snapshotFile, snapshot, fsync);
+        }
+
+        Map<UUID, MockEmployee> contents = new LinkedHashMap<>();
+        snapshot.employees().forEach(employee -> contents.put(employee.getId(), employee));
+        generation = snapshot.tag();
+        for (Map.Entry<Long, Path> segment : segments().entrySet()) {
+            if (segment.getKey() < snapshot.tag()) {
+                // Left behind by a compaction that was interrupted after writing the snapshot.
+                Files.delete(segment.getValue());
+                continue;
+            }
+            recordsSinceCompaction += replay(segment.getValue(), contents);
+            generation = segment.getKey();
+        }
+
+        openSegment();
+        log.info(
+                "Recovered {} employees from {} ({} journaled changes) in {} ms",
+                contents.size(),
+                directory,
+                recordsSinceCompaction,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return new ArrayList<>(contents.values());
+    }
+
+    /**
+     * Starts the periodic sync and lets compaction read the store's contents.
+     */
+    public synchronized void attach(MockEmployeeStore store) {
+        this.store = store;
+        long intervalMicros = syncInterval.toNanos() / 1000;
+        syncer.scheduleWithFixedDelay(this::syncAndMaybeCompact, intervalMicros, intervalMicros, TimeUnit.MICROSECONDS);
+    }
+
+    @Override
+    public long appendCreated(MockEmployee employee) {
+        return append(CREATED, employee);
+    }
+
+    @Override
+    public long appendDeleted(MockEmployee employee) {
+        return append(DELETED, employee);
+    }
+
+    @Override
+    public void awaitDurable(long ticket) {
+        synchronized (durability) {
+            while (durable < ticket) {
+                if (failure != null) {
+                    throw new UncheckedIOException("Journal sync failed", failure);
+                }
+                if (closed) {
+                    throw new IllegalStateException("Journal closed");
+                }
+                try {
+                    durability.wait();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted waiting for journal sync", ex);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        syncer.shutdown();
+        compactor.shutdown();
+        try {
+            syncer.awaitTermination(10, TimeUnit.SECONDS);
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        sync();
+        synchronized (this) {
+            closed = true;
+            if (channel != null) {
+                out.flush();
+                channel.close();
+            }
+        }
+        signalDurable(durable);
+    }
+
+    private synchronized long append(byte type, MockEmployee employee) {
+        if (failure != null) {
+            throw new UncheckedIOException("Journal sync failed", failure);
+        }
+        try {
+            recordBuffer.reset();
+            record.writeByte(type);
+            record.writeLong(employee.getId().getMostSignificantBits());
+            record.writeLong(employee.getId().getLeastSignificantBits());
+            if (type == CREATED) {
+                writeNullableString(record, employee.getName());
+                record.writeInt(employee.getSalary());
+                record.writeInt(employee.getAge());
+                writeNullableString(record, employee.getTitle());
+                writeNullableString(record, employee.getEmail());
+            }
+            crc.reset();
+            crc.update(recordBuffer.toByteArray());
+            out.writeInt(recordBuffer.size());
+            out.writeInt((int) crc.getValue());
+            recordBuffer.writeTo(out);
+            recordsSinceCompaction++;
+            return ++appended;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not append to journal", ex);
+        }
+    }
+
+    private void syncAndMaybeCompact() {
+        sync();
+        boolean compactionDue;
+        synchronized (this) {
+            compactionDue = recordsSinceCompaction >= compactionThreshold && !closed;
+        }
+        if (compactionDue && compacting.compareAndSet(false, true)) {
+            compactor.execute(this::compact);
+        }
+    }
+
+    private void sync() {
+        FileChannel syncing;
+        long target;
+        synchronized (this) {
+            if (channel == null || durable == appended) {
+                return;
+            }
+            try {
+                out.flush();
+            } catch (IOException ex) {
+                fail(ex);
+                return;
+            }
+            syncing = channel;
+            target = appended;
+        }
+        // Forced outside the lock so writers can keep appending to the buffer while the disk catches up.
+        try {
+            syncing.force(false);
+        } catch (ClosedChannelException ex) {
+            // A rotation closed the segment; it forced everything up to and beyond our target first.
+            return;
+        } catch (IOException ex) {
+            fail(ex);
+            return;
+        }
+        signalDurable(target);
+    }
+
+    private void compact() {
+        try {
+            long startedAt = System.nanoTime();
+            long[] newGeneration = new long[1];
+            List<MockEmployee> contents = store.snapshotAt(() -> newGeneration[0] = rotate());
+            // Returns only once the snapshot is on disk under its name; before that the old segments are still needed.
+            MockEmployeeSnapshotCodec.write(
+                    directory.resolve(SNAPSHOT_FILE),
+                    new MockEmployeeSnapshotCodec.Snapshot(newGeneration[0], contents),
+                    fsync);
+            for (Map.Entry<Long, Path> segment : segments().entrySet()) {
+                if (segment.getKey() < newGeneration[0]) {
+                    Files.delete(segment.getValue());
+                }
+            }
+            log.info(
+                    "Compacted journal into a snapshot of {} employees in {} ms",
+                    contents.size(),
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (IOException | UncheckedIOException ex) {
+            // The journal is still complete; compaction is retried once the next segment fills up.
+            log.warn("Journal compaction failed", ex);
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    /**
+     * Seals the current segment, making everything in it durable, and starts the next one.
+     *
+     * @return the new segment's generation
+     */
+    private synchronized long rotate() {
+        try {
+            out.flush();
+            channel.force(false);
+            channel.close();
+            signalDurable(appended);
+            generation++;
+            recordsSinceCompaction = 0;
+            openSegment();
+            return generation;
+        } catch (IOException ex) {
+            fail(ex);
+            throw new UncheckedIOException("Could not rotate journal", ex);
+        }
+    }
+
+    private void openSegment() throws IOException {
+        Path segment = segmentPath(generation);
+        boolean created = Files.notExists(segment);
+        channel = FileChannel.open(
+                segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+        if (created) {
+            // Forcing a segment's data does not persist its name; records acknowledged in it would be lost with it.
+            fsync.directory(directory);
+        }
+    }
+
+    private void signalDurable(long ticket) {
+        synchronized (durability) {
+            if (ticket > durable) {
+                durable = ticket;
+            }
+            durability.notifyAll();
+        }
+    }
+
+    private void fail(IOException ex) {
+        log.error("Journal I/O failed; further writes will be rejected", ex);
+        failure = ex;
+        signalDurable(durable);
+    }
+
+    /**
+     * Applies one segment's records to {@code contents}, truncating a torn or corrupt tail.
+     *
+     * @return the number of records applied
+     */
+    private static long replay(Path segment, Map<UUID, MockEmployee> contents) throws IOException {
+        long applied = 0;
+        long validLength = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException ex) {
+                    break;
+                }
+                if (length <= 0 || length > MAX_RECORD_LENGTH) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                int checksum;
+                try {
+                    checksum = in.readInt();
+                    in.readFully(payload);
+                } catch (EOFException ex) {
+                    break;
+                }
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                apply(payload, contents);
+                applied++;
+                validLength += Integer.BYTES * 2 + length;
+            }
+        }
+
+        long size = Files.size(segment);
+        if (validLength < size) {
+            log.warn("Truncating {} torn bytes from {}", size - validLength, segment);
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+        return applied;
+    }
+
+    private static void apply(byte[] payload, Map<UUID, MockEmployee> contents) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = in.readByte();
+        UUID id = new UUID(in.readLong(), in.readLong());
+        // Re-adding an ID moves it to the end, matching the store's insertion order.
+        contents.remove(id);
+        if (type == CREATED) {
+            String name = readNullableString(in);
+            int salary = in.readInt();
+            int age = in.readInt();
+            String title = readNullableString(in);
+            String email = readNullableString(in);
+            contents.put(id, new MockEmployee(id, name, salary, age, title, email));
+        }
+    }
+
+    private Map<Long, Path> segments() throws IOException {
+        Map<Long, Path> segments = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.put(Long.parseLong(matcher.group(1)), file);
+                }
+            });
+        }
+        return segments;
+    }
+
+    private Path segmentPath(long generation) {
+        return directory.resolve("journal-%d.log".formatted(generation));
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,198 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact binary form of a mock employee dataset, for startup without regenerating it.
+ *
+ * <p>Layout, big-endian: magic, format version, a tag saying what the dataset was made from, its size, a dictionary of
+ * the distinct job titles (there are far fewer titles than employees), then one record per employee: UUID as two
+ * longs, name, salary, age, title dictionary index and email. Strings are an unsigned-short byte length followed by
+ * UTF-8, with {@value #NULL_STRING} marking null.
+ *
+ * <p>Files are written to a temporary sibling, forced to disk and moved into place, and the move is forced too, so
+ * neither a process crash nor a power loss leaves a truncated snapshot. They are read through a memory mapping rather
+ * than a stream.
+ */
+public final class MockEmployeeSnapshotCodec {
+
+    private static final int MAGIC = 0x52514D45; // "RQME"
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int NULL_STRING = 0xFFFF;
+
+    private static final boolean WINDOWS =
+            System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+
+    private MockEmployeeSnapshotCodec() {}
+
+    /**
+     * @param tag identifies what the snapshot was made from, so a loader can tell whether it still applies: the seed
+     *     for a generated dataset, the journal generation for a compacted one
+     */
+    public record Snapshot(long tag, List<MockEmployee> employees) {}
+
+    /**
+     * Makes file contents and directory entries durable. Swappable so tests can check what is forced before what.
+     */
+    interface Fsync {
+
+        Fsync DISK = new Fsync() {
+            @Override
+            public void file(FileChannel channel) throws IOException {
+                channel.force(true);
+            }
+
+            @Override
+            public void directory(Path directory) throws IOException {
+                if (WINDOWS) {
+                    // Directories cannot be opened for syncing there; NTFS journals the rename itself.
+                    return;
+                }
+                try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+                    channel.force(true);
+                }
+            }
+        };
+
+        void file(FileChannel channel) throws IOException;
+
+        void directory(Path directory) throws IOException;
+    }
+
+    /**
+     * Returns once the snapshot and its name are both on disk.
+     */
+    public static void write(Path path, Snapshot snapshot) throws IOException {
+        write(path, snapshot, Fsync.DISK);
+    }
+
+    static void write(Path path, Snapshot snapshot, Fsync fsync) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, path.getFileName() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                write(Channels.newOutputStream(channel), snapshot);
+                fsync.file(channel);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            fsync.directory(directory);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static void write(OutputStream target, Snapshot snapshot) throws IOException {
+        List<MockEmployee> employees = snapshot.employees();
+        Map<String, Integer> titleIndexes = new HashMap<>();
+        List<String> titles = new ArrayList<>();
+        for (MockEmployee employee : employees) {
+            titleIndexes.computeIfAbsent(employee.getTitle(), title -> {
+                titles.add(title);
+                return titles.size() - 1;
+            });
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(target, 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(snapshot.tag());
+        out.writeInt(employees.size());
+        out.writeInt(titles.size());
+        for (String title : titles) {
+            writeString(out, title);
+        }
+        for (MockEmployee employee : employees) {
+            out.writeLong(employee.getId().getMostSignificantBits());
+            out.writeLong(employee.getId().getLeastSignificantBits());
+            writeString(out, employee.getName());
+            out.writeInt(employee.getSalary());
+            out.writeByte(employee.getAge());
+            out.writeInt(titleIndexes.get(employee.getTitle()));
+            writeString(out, employee.getEmail());
+        }
+        out.flush();
+    }
+
+    public static Snapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot too large to map: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        }
+    }
+
+    static Snapshot read(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a mock employee snapshot");
+        }
+        int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format version " + formatVersion);
+        }
+        long tag = buffer.getLong();
+        int count = buffer.getInt();
+        byte[] scratch = new byte[NULL_STRING];
+
+        String[] titles = new String[buffer.getInt()];
+        for (int i = 0; i < titles.length; i++) {
+            titles[i] = readString(buffer, scratch);
+        }
+
+        List<MockEmployee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UUID id = new UUID(buffer.getLong(), buffer.getLong());
+            String name = readString(buffer, scratch);
+            int salary = buffer.getInt();
+            int age = buffer.get();
+            String title = titles[buffer.getInt()];
+            String email = readString(buffer, scratch);
+            employees.add(new MockEmployee(id, name, salary, age, title, email));
+        }
+        return new Snapshot(tag, employees);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(NULL_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_STRING) {
+            throw new IOException("String too long for snapshot: " + bytes.length + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer, byte[] scratch) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length == NULL_STRING) {
+            return null;
+        }
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
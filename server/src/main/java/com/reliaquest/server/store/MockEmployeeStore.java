@@ -0,0 +1,231 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChangeFeed;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.random.RandomGenerator;
+import lombok.NonNull;
+
+/**
+ * Thread-safe home of the mock employees, indexed for the operations the controller actually serves.
+ *
+ * <ul>
+ *   <li>Lookups by UUID hit a {@link ConcurrentHashMap} and never lock.
+ *   <li>Listing returns an immutable snapshot in insertion order. The snapshot is reused until the next write, and
+ *       rebuilding it only iterates a {@link ConcurrentSkipListMap}, so readers never wait on writers.
+ *   <li>Writers serialize on a lock so the ID, order and name indexes change together. Delete-by-name goes through a
+ *       lower-cased name index instead of scanning the whole dataset.
+ *   <li>Every write is appended to the {@link MutationJournal} under that lock, and the writer then waits for it to
+ *       become durable without holding the lock.
+ *   <li>Every write also bumps the store version and is kept in a bounded {@link ChangeLog}, so clients can catch up
+ *       with {@link #changesSince} instead of reloading everything.
+ * </ul>
+ */
+public class MockEmployeeStore {
+
+    public static final int DEFAULT_CHANGE_CAPACITY = 10_000;
+
+    private final Map<UUID, Entry> byId = new ConcurrentHashMap<>();
+
+    private final NavigableMap<Long, MockEmployee> inInsertionOrder = new ConcurrentSkipListMap<>();
+
+    /**
+     * Lower-cased name to the entries carrying it, oldest first. Only touched under {@link #writeLock}.
+     */
+    private final Map<String, NavigableMap<Long, MockEmployee>> byName = new HashMap<>();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    /**
+     * Bumped after every write; a cached snapshot is only served while it matches.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Versioned<List<MockEmployee>> snapshot = new Versioned<>(-1, List.of());
+
+    /**
+     * Random per store instance, so versions from before a restart can never be mistaken for current ones.
+     */
+    private final String epoch = Long.toHexString(RandomGenerator.getDefault().nextLong());
+
+    private final MutationJournal journal;
+
+    private final ChangeLog changes;
+
+    public MockEmployeeStore(List<MockEmployee> mockEmployees, MutationJournal journal) {
+        this(mockEmployees, journal, DEFAULT_CHANGE_CAPACITY);
+    }
+
+    /**
+     * @param mockEmployees initial contents, which are neither journaled nor part of the change feed
+     * @param changeCapacity how many recent changes the change feed retains, at least 1
+     */
+    public MockEmployeeStore(List<MockEmployee> mockEmployees, MutationJournal journal, int changeCapacity) {
+        this.journal = journal;
+        mockEmployees.forEach(this::put);
+        this.changes = new ChangeLog(changeCapacity, version.get());
+    }
+
+    /**
+     * @return every employee in insertion order, as an immutable list that later writes do not affect
+     */
+    public List<MockEmployee> snapshot() {
+        return versionedSnapshot().value();
+    }
+
+    /**
+     * Like {@link #snapshot()}, labelled with the store version it reflects.
+     */
+    public Versioned<List<MockEmployee>> versionedSnapshot() {
+        Versioned<List<MockEmployee>> current = snapshot;
+        long currentVersion = version.get();
+        if (current.version() == currentVersion) {
+            return current;
+        }
+
+        // The version is read before copying, so the copy may include later writes but never misses earlier ones.
+        Versioned<List<MockEmployee>> copy = new Versioned<>(currentVersion, List.copyOf(inInsertionOrder.values()));
+        // Only cache the copy if no write finished while it was taken; otherwise the next reader rebuilds it.
+        if (version.get() == currentVersion) {
+            snapshot = copy;
+        }
+        return copy;
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(byId.get(id)).map(Entry::employee);
+    }
+
+    /**
+     * Employees are never modified in place, so the sequence number they were stored under versions them.
+     */
+    public Optional<Versioned<MockEmployee>> findVersionedById(@NonNull UUID id) {
+        return Optional.ofNullable(byId.get(id)).map(entry -> new Versioned<>(entry.sequence(), entry.employee()));
+    }
+
+    /**
+     * @param since the version the caller last saw, from an earlier feed or list response
+     * @return the changes after it, or empty if they are no longer all retained and the caller must reload the list
+     */
+    public Optional<MockEmployeeChangeFeed> changesSince(long since) {
+        return changes.since(since).map(changed -> new MockEmployeeChangeFeed(
+                epoch, changed.isEmpty() ? since : changed.get(changed.size() - 1).version(), changed));
+    }
+
+    /**
+     * @return identifies this store instance; versions are only comparable within one epoch
+     */
+    public String epoch() {
+        return epoch;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public void add(@NonNull MockEmployee mockEmployee) {
+        long ticket;
+        writeLock.lock();
+        try {
+            // Journaled first, so a failed append leaves the store untouched.
+            ticket = journal.appendCreated(mockEmployee);
+            put(mockEmployee);
+            changes.record(MockEmployeeChange.created(version.get(), mockEmployee));
+        } finally {
+            writeLock.unlock();
+        }
+        journal.awaitDurable(ticket);
+    }
+
+    /**
+     * Removes the oldest employee whose name matches ignoring case, mirroring the original first-match scan.
+     */
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        Entry removed;
+        long ticket;
+        writeLock.lock();
+        try {
+            NavigableMap<Long, MockEmployee> named = byName.get(nameKey(name));
+            if (named == null || named.isEmpty()) {
+                return Optional.empty();
+            }
+            Map.Entry<Long, MockEmployee> oldest = named.firstEntry();
+            removed = new Entry(oldest.getKey(), oldest.getValue());
+            ticket = journal.appendDeleted(removed.employee());
+            byId.remove(removed.employee().getId());
+            unindex(removed);
+            changes.record(MockEmployeeChange.deleted(version.incrementAndGet(), removed.employee()));
+        } finally {
+            writeLock.unlock();
+        }
+        journal.awaitDurable(ticket);
+        return Optional.of(removed.employee());
+    }
+
+    /**
+     * Runs the action with writes held off and returns the contents as they stood at that moment, so the action can
+     * mark a point in the journal that the returned list corresponds to exactly.
+     */
+    public List<MockEmployee> snapshotAt(Runnable action) {
+        writeLock.lock();
+        try {
+            action.run();
+            return snapshot();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void put(MockEmployee mockEmployee) {
+        writeLock.lock();
+        try {
+            long sequence = nextSequence.getAndIncrement();
+            Entry previous = byId.put(mockEmployee.getId(), new Entry(sequence, mockEmployee));
+            if (previous != null) {
+                unindex(previous);
+            }
+            inInsertionOrder.put(sequence, mockEmployee);
+            if (mockEmployee.getName() != null) {
+                byName.computeIfAbsent(nameKey(mockEmployee.getName()), ignored -> new TreeMap<>())
+                        .put(sequence, mockEmployee);
+            }
+            version.incrementAndGet();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void unindex(Entry entry) {
+        inInsertionOrder.remove(entry.sequence());
+        if (entry.employee().getName() != null) {
+            String key = nameKey(entry.employee().getName());
+            NavigableMap<Long, MockEmployee> named = byName.get(key);
+            if (named != null) {
+                named.remove(entry.sequence());
+                if (named.isEmpty()) {
+                    byName.remove(key);
+                }
+            }
+        }
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(long sequence, MockEmployee employee) {}
+}
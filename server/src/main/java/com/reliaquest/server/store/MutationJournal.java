@@ -0,0 +1,40 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+
+/**
+ * Where {@link MockEmployeeStore} records its writes. Appends happen while the store's write lock is held, so the
+ * journal sees mutations in exactly the order they were applied; waiting for durability happens after it is released.
+ */
+public interface MutationJournal {
+
+    MutationJournal NONE = new MutationJournal() {
+        @Override
+        public long appendCreated(MockEmployee employee) {
+            return 0;
+        }
+
+        @Override
+        public long appendDeleted(MockEmployee employee) {
+            return 0;
+        }
+
+        @Override
+        public void awaitDurable(long ticket) {}
+    };
+
+    /**
+     * @return a ticket to pass to {@link #awaitDurable} once the store's write lock has been released
+     */
+    long appendCreated(MockEmployee employee);
+
+    /**
+     * @return a ticket to pass to {@link #awaitDurable} once the store's write lock has been released
+     */
+    long appendDeleted(MockEmployee employee);
+
+    /**
+     * Blocks until the mutation behind the ticket has been synced to disk.
+     */
+    void awaitDurable(long ticket);
+}
@@ -0,0 +1,7 @@
+package com.reliaquest.server.store;
+
+/**
+ * A value read from {@link MockEmployeeStore} together with the store version it reflects. The value is at least as
+ * new as the version, never older, so a version that still matches means the client's copy is current.
+ */
+public record Versioned<T>(long version, T value) {}
@@ -0,0 +1,210 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.fault.FaultProfiles;
+import com.reliaquest.server.fault.MockEndpoint;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Makes the mock API behave like a slow, flaky upstream according to the {@link FaultProfiles} in force: delays,
+ * error responses, dropped connections and bodies that trickle out. Runs ahead of everything else, including the rate
+ * limit, so injected latency applies to rejected requests too. Requests outside the employee API are never touched.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    /**
+     * Announced length of the body of a dropped response; the connection closes after the first byte of it.
+     */
+    private static final int DROPPED_BODY_LENGTH = 1024;
+
+    private final FaultProfiles faultProfiles;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        FaultProfile profile = MockEndpoint.resolve(request.getMethod(), path)
+                .map(faultProfiles::forEndpoint)
+                .orElse(null);
+        if (profile == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RandomGenerator random = ThreadLocalRandom.current();
+        if (profile.latency() != null) {
+            sleep(profile.latency().sampleMillis(random));
+        }
+        double roll = random.nextDouble();
+        if (roll < profile.resetRate()) {
+            dropConnection(request, response);
+            return;
+        }
+        if (roll < profile.resetRate() + profile.errorRate()) {
+            log.debug("Injecting {} into {} {}", profile.errorStatus(), request.getMethod(), path);
+            response.setStatus(profile.errorStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault"));
+            return;
+        }
+        if (profile.dripChunkBytes() > 0) {
+            response = new DripResponse(response, profile.dripChunkBytes(), profile.dripIntervalMs());
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Commits a response promising more body than it sends, then fails the request. The servlet container can only
+     * close a committed response's connection, so the client sees it drop mid-response.
+     */
+    private static void dropConnection(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("Dropping connection of {} {}", request.getMethod(), request.getRequestURI());
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(DROPPED_BODY_LENGTH);
+        response.getOutputStream().write('{');
+        response.flushBuffer();
+        throw new InjectedConnectionReset();
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted during injected delay");
+        }
+    }
+
+    private static final class InjectedConnectionReset extends IOException {
+
+        InjectedConnectionReset() {
+            super("Injected connection reset");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            // Expected on every injected reset; a stack trace would only flood the log.
+            return this;
+        }
+    }
+
+    /**
+     * Sends the body {@code chunkBytes} at a time, flushing each chunk to the socket and pausing between them.
+     */
+    private static final class DripResponse extends HttpServletResponseWrapper {
+
+        private final int chunkBytes;
+
+        private final long intervalMs;
+
+        private ServletOutputStream outputStream;
+
+        DripResponse(HttpServletResponse response, int chunkBytes, long intervalMs) {
+            super(response);
+            this.chunkBytes = chunkBytes;
+            this.intervalMs = intervalMs;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new DripOutputStream(super.getOutputStream(), chunkBytes, intervalMs);
+            }
+            return outputStream;
+        }
+    }
+
+    private static final class DripOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private final int chunkBytes;
+
+        private final long intervalMs;
+
+        private int writtenInChunk;
+
+        DripOutputStream(ServletOutputStream delegate, int chunkBytes, long intervalMs) {
+            this.delegate = delegate;
+            this.chunkBytes = chunkBytes;
+            this.intervalMs = intervalMs;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (++writtenInChunk == chunkBytes) {
+                endChunk();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                int count = Math.min(length, chunkBytes - writtenInChunk);
+                delegate.write(bytes, offset, count);
+                offset += count;
+                length -= count;
+                writtenInChunk += count;
+                if (writtenInChunk == chunkBytes) {
+                    endChunk();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        private void endChunk() throws IOException {
+            writtenInChunk = 0;
+            delegate.flush();
+            sleep(intervalMs);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes the employee list in the usual {@code {"data":[...],"status":...}} envelope one employee at a time, straight
+ * to the servlet output stream. Only the generator's and the container's fixed-size buffers sit between an employee
+ * and the socket, so memory stays flat however many employees there are, and the first bytes leave as soon as the
+ * response buffer fills instead of after the whole body has been built.
+ *
+ * <p>This runs synchronously on the request thread; async alternatives such as {@code StreamingResponseBody} would
+ * re-dispatch the request and run the interceptors a second time.
+ */
+@Component
+public class MockEmployeeListWriter {
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectWriter employeeWriter;
+
+    public MockEmployeeListWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        // Flushing after every employee would turn each one into its own chunk on the wire.
+        this.employeeWriter =
+                objectMapper.writerFor(MockEmployee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void write(List<MockEmployee> employees, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("data");
+            for (MockEmployee employee : employees) {
+                employeeWriter.writeValue(generator, employee);
+            }
+            generator.writeEndArray();
+            generator.writeStringField("status", Response.Status.HANDLED.getValue());
+            generator.writeEndObject();
+        }
+    }
+}
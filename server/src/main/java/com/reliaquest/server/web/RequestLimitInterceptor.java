@@ -0,0 +1,124 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.limit.RequestLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Rejects requests over budget with a 429 whose {@code Retry-After} says when a request would next be allowed.
+ *
+ * <p>All requests share one budget unless per-client budgets are on; then each value of the client header (or each
+ * remote address, for requests without one) gets its own. Beyond {@value #MAX_CLIENTS} clients, the budgets of the
+ * clients seen least recently are dropped, so active clients keep theirs.
+ */
+@Slf4j
+public class RequestLimitInterceptor implements HandlerInterceptor {
+
+    /**
+     * Per-client budgets kept at most, rather than letting the map grow without bound.
+     */
+    static final int MAX_CLIENTS = 10_000;
+
+    /**
+     * Budgets dropped at once when the map is full, so the scan for the idlest clients is not repeated for every new
+     * client.
+     */
+    static final int EVICTED_CLIENTS = MAX_CLIENTS / 10;
+
+    private static final long ONE_SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongFunction<RequestLimiter> limiters;
+
+    private final String clientHeader;
+
+    private final RequestLimiter shared;
+
+    private final LongSupplier clock;
+
+    private final Map<String, Client> perClient = new ConcurrentHashMap<>();
+
+    /**
+     * @param limiters creates a budget starting at the given {@link System#nanoTime()}
+     * @param clientHeader header identifying the client for per-client budgets, or null for one shared budget
+     */
+    public RequestLimitInterceptor(LongFunction<RequestLimiter> limiters, String clientHeader) {
+        this(limiters, clientHeader, System::nanoTime);
+    }
+
+    RequestLimitInterceptor(LongFunction<RequestLimiter> limiters, String clientHeader, LongSupplier clock) {
+        this.limiters = limiters;
+        this.clientHeader = clientHeader;
+        this.clock = clock;
+        this.shared = clientHeader == null ? limiters.apply(clock.getAsLong()) : null;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = clock.getAsLong();
+        long waitNanos = limiterFor(request, now).tryAcquire(now);
+        if (waitNanos == 0) {
+            return true;
+        }
+        // Rounded up: a client retrying after the advertised delay must not be rejected again.
+        long retryAfterSeconds = Math.max(1, (waitNanos + ONE_SECOND_NANOS - 1) / ONE_SECOND_NANOS);
+        log.debug(
+                "Rate limiting {} {}, retry after {}s",
+                request.getMethod(),
+                request.getRequestURI(),
+                retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return false;
+    }
+
+    private RequestLimiter limiterFor(HttpServletRequest request, long now) {
+        if (shared != null) {
+            return shared;
+        }
+        String client = request.getHeader(clientHeader);
+        String key = client != null && !client.isBlank() ? client : request.getRemoteAddr();
+        Client known = perClient.get(key);
+        if (known == null) {
+            if (perClient.size() >= MAX_CLIENTS) {
+                evictIdlest();
+            }
+            known = perClient.computeIfAbsent(key, ignored -> new Client(limiters.apply(now)));
+        }
+        known.lastSeen = now;
+        return known.limiter;
+    }
+
+    /**
+     * Drops the {@value #EVICTED_CLIENTS} budgets whose clients were seen least recently. Rare, so one scan under a
+     * lock is fine; callers that raced here find the map below the limit again and return.
+     */
+    private synchronized void evictIdlest() {
+        if (perClient.size() < MAX_CLIENTS) {
+            return;
+        }
+        long[] lastSeen = perClient.values().stream().mapToLong(client -> client.lastSeen).sorted().toArray();
+        long cutoff = lastSeen[Math.min(EVICTED_CLIENTS, lastSeen.length) - 1];
+        perClient.values().removeIf(client -> client.lastSeen <= cutoff);
+        log.info("More than {} rate-limited clients, dropped the budgets of the idlest", MAX_CLIENTS);
+    }
+
+    private static final class Client {
+
+        private final RequestLimiter limiter;
+
+        private volatile long lastSeen;
+
+        Client(RequestLimiter limiter) {
+            this.limiter = limiter;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeJournal;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+
+class PersistenceConfigurationTest {
+
+    private final PersistenceConfiguration configuration = new PersistenceConfiguration();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void mockEmployeeStore_RecoveredFromJournal_DatasetNotCreated() throws Exception {
+        // Given - the first boot seeds the journal from the dataset
+        MockEmployee employee =
+                new MockEmployee(UUID.randomUUID(), "John Doe", 60000, 30, "Engineer", "john@company.com");
+        ObjectProvider<List<MockEmployee>> firstBoot = dataset(List.of(employee));
+        try (MockEmployeeJournal journal = configuration.mockEmployeeJournal(directory.toString(), 1, 100)) {
+            configuration.mockEmployeeStore(firstBoot, Optional.of(journal), 100);
+        }
+        ObjectProvider<List<MockEmployee>> secondBoot = dataset(List.of());
+
+        // When
+        MockEmployeeStore recovered;
+        try (MockEmployeeJournal journal = configuration.mockEmployeeJournal(directory.toString(), 1, 100)) {
+            recovered = configuration.mockEmployeeStore(secondBoot, Optional.of(journal), 100);
+        }
+
+        // Then
+        assertEquals(List.of(employee), recovered.snapshot());
+        verify(firstBoot).getObject();
+        verifyNoInteractions(secondBoot);
+    }
+
+    @Test
+    void mockEmployeeStore_NoPersistence_UsesDataset() throws Exception {
+        // Given
+        MockEmployee employee =
+                new MockEmployee(UUID.randomUUID(), "Jane Smith", 75000, 28, "Engineer", "jane@company.com");
+
+        // When
+        MockEmployeeStore store = configuration.mockEmployeeStore(dataset(List.of(employee)), Optional.empty(), 100);
+
+        // Then
+        assertEquals(List.of(employee), store.snapshot());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<List<MockEmployee>> dataset(List<MockEmployee> employees) {
+        ObjectProvider<List<MockEmployee>> dataset = mock(ObjectProvider.class);
+        lenient().when(dataset.getObject()).thenReturn(employees);
+        return dataset;
+    }
+}
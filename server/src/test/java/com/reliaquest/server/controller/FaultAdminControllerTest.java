@@ -0,0 +1,122 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.server.fault.FaultProfiles;
+import com.reliaquest.server.fault.MockEndpoint;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.LatencyDistribution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class FaultAdminControllerTest {
+
+    private static final String PROFILE =
+            """
+            {"latency": {"type": "log-normal", "median": 40, "p99": 1500}, "error_rate": 0.1, "error_status": 500}
+            """;
+
+    private final FaultProfiles faultProfiles = new FaultProfiles();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new FaultAdminController(faultProfiles))
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void setFault_KnownTarget_ProfileInForce() throws Exception {
+        // When
+        mockMvc.perform(put("/admin/faults/list").contentType(MediaType.APPLICATION_JSON).content(PROFILE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.list.error_rate").value(0.1))
+                .andExpect(jsonPath("$.data.list.latency.type").value("log-normal"));
+
+        // Then
+        assertEquals(
+                new FaultProfile(new LatencyDistribution.LogNormal(40, 1500), 0.1, 500, 0, 0, 0),
+                faultProfiles.forEndpoint(MockEndpoint.LIST));
+        assertNull(faultProfiles.forEndpoint(MockEndpoint.CREATE));
+    }
+
+    @Test
+    void setFault_All_AppliesToEveryEndpointWithoutOwnProfile() throws Exception {
+        // Given
+        FaultProfile own = new FaultProfile(null, 1, null, 0, 0, 0);
+        faultProfiles.set("delete", own);
+
+        // When
+        mockMvc.perform(put("/admin/faults/all").contentType(MediaType.APPLICATION_JSON).content(PROFILE))
+                .andExpect(status().isOk());
+
+        // Then
+        assertEquals(500, faultProfiles.forEndpoint(MockEndpoint.CREATE).errorStatus());
+        assertEquals(own, faultProfiles.forEndpoint(MockEndpoint.DELETE));
+    }
+
+    @Test
+    void clearFault_KnownTarget_ProfileRemoved() throws Exception {
+        // Given
+        faultProfiles.set("list", new FaultProfile(null, 1, null, 0, 0, 0));
+        faultProfiles.set("create", new FaultProfile(null, 1, null, 0, 0, 0));
+
+        // When
+        mockMvc.perform(delete("/admin/faults/list"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.list").doesNotExist())
+                .andExpect(jsonPath("$.data.create").exists());
+
+        // Then
+        assertNull(faultProfiles.forEndpoint(MockEndpoint.LIST));
+    }
+
+    @Test
+    void clearFaults_AllProfilesRemoved() throws Exception {
+        // Given
+        faultProfiles.set("all", new FaultProfile(null, 1, null, 0, 0, 0));
+
+        // When
+        mockMvc.perform(delete("/admin/faults")).andExpect(status().isOk());
+
+        // Then
+        assertTrue(faultProfiles.all().isEmpty());
+    }
+
+    @Test
+    void setFault_UnknownTarget_BadRequest() throws Exception {
+        // When
+        mockMvc.perform(put("/admin/faults/update").contentType(MediaType.APPLICATION_JSON).content(PROFILE))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown fault target: update"));
+
+        // Then
+        assertTrue(faultProfiles.all().isEmpty());
+    }
+
+    @Test
+    void clearFault_UnknownTarget_BadRequest() throws Exception {
+        mockMvc.perform(delete("/admin/faults/update"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown fault target: update"));
+    }
+
+    @Test
+    void setFault_InvalidProfile_BadRequest() throws Exception {
+        // When
+        mockMvc.perform(put("/admin/faults/list")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"error_rate\": 0.8, \"reset_rate\": 0.5}"))
+                .andExpect(status().isBadRequest());
+
+        // Then
+        assertTrue(faultProfiles.all().isEmpty());
+    }
+}
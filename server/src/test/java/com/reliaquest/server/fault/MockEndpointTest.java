@@ -0,0 +1,41 @@
+package com.reliaquest.server.fault;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class MockEndpointTest {
+
+    @Test
+    void resolve_Get_ListChangesOrById() {
+        assertEquals(Optional.of(MockEndpoint.LIST), MockEndpoint.resolve("GET", "/api/v1/employee"));
+        assertEquals(Optional.of(MockEndpoint.LIST), MockEndpoint.resolve("GET", "/api/v1/employee/"));
+        assertEquals(Optional.of(MockEndpoint.CHANGES), MockEndpoint.resolve("GET", "/api/v1/employee/changes"));
+        assertEquals(
+                Optional.of(MockEndpoint.GET_BY_ID),
+                MockEndpoint.resolve("GET", "/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507"));
+    }
+
+    @Test
+    void resolve_WritesOnlyOnRoot() {
+        assertEquals(Optional.of(MockEndpoint.CREATE), MockEndpoint.resolve("POST", "/api/v1/employee"));
+        assertEquals(Optional.of(MockEndpoint.DELETE), MockEndpoint.resolve("DELETE", "/api/v1/employee/"));
+        assertEquals(Optional.empty(), MockEndpoint.resolve("POST", "/api/v1/employee/changes"));
+        assertEquals(Optional.empty(), MockEndpoint.resolve("DELETE", "/api/v1/employee/123"));
+    }
+
+    @Test
+    void resolve_NotEmployeeApi_Empty() {
+        assertEquals(Optional.empty(), MockEndpoint.resolve("GET", "/admin/faults"));
+        assertEquals(Optional.empty(), MockEndpoint.resolve("GET", "/api/v1/employees"));
+        assertEquals(Optional.empty(), MockEndpoint.resolve("GET", "/api/v1"));
+        assertEquals(Optional.empty(), MockEndpoint.resolve("PUT", "/api/v1/employee"));
+    }
+
+    @Test
+    void fromKey_MatchesAdminTargets() {
+        assertEquals(Optional.of(MockEndpoint.GET_BY_ID), MockEndpoint.fromKey("get-by-id"));
+        assertEquals(Optional.empty(), MockEndpoint.fromKey("GET_BY_ID"));
+    }
+}
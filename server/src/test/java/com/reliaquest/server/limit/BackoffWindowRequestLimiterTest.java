@@ -0,0 +1,40 @@
+package com.reliaquest.server.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class BackoffWindowRequestLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final RequestLimiter limiter = new BackoffWindowRequestLimiter(2, Duration.ofSeconds(5), 0);
+
+    @Test
+    void tryAcquire_OverLimit_WaitsForBackoffSinceLastAllowed() {
+        // Given
+        assertEquals(0, limiter.tryAcquire(0));
+        assertEquals(0, limiter.tryAcquire(SECOND));
+
+        // When
+        long firstWait = limiter.tryAcquire(2 * SECOND);
+        long secondWait = limiter.tryAcquire(4 * SECOND);
+
+        // Then - rejected requests do not extend the backoff
+        assertEquals(4 * SECOND, firstWait);
+        assertEquals(2 * SECOND, secondWait);
+    }
+
+    @Test
+    void tryAcquire_BackoffPassed_FullBurstAgain() {
+        // Given
+        limiter.tryAcquire(0);
+        limiter.tryAcquire(0);
+
+        // When / Then
+        assertEquals(0, limiter.tryAcquire(5 * SECOND));
+        assertEquals(0, limiter.tryAcquire(5 * SECOND));
+        assertEquals(5 * SECOND, limiter.tryAcquire(5 * SECOND));
+    }
+}
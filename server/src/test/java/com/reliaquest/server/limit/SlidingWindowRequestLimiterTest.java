@@ -0,0 +1,57 @@
+package com.reliaquest.server.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowRequestLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final RequestLimiter limiter = new SlidingWindowRequestLimiter(4, Duration.ofSeconds(10), 0);
+
+    @Test
+    void tryAcquire_CurrentWindowFull_WaitsForWindowEnd() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, limiter.tryAcquire(i * SECOND));
+        }
+
+        // When
+        long waitNanos = limiter.tryAcquire(6 * SECOND);
+
+        // Then
+        assertEquals(4 * SECOND, waitNanos);
+    }
+
+    @Test
+    void tryAcquire_WindowRolledOver_PreviousCountWeightedByOverlap() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire(0);
+        }
+
+        // When - the full previous window still overlaps completely, then by three quarters
+        long waitNanos = limiter.tryAcquire(10 * SECOND);
+
+        // Then
+        assertEquals(2_500_000_000L, waitNanos);
+        assertEquals(0, limiter.tryAcquire(10 * SECOND + waitNanos));
+        assertTrue(limiter.tryAcquire(10 * SECOND + waitNanos) > 0);
+    }
+
+    @Test
+    void tryAcquire_TwoWindowsIdle_FullBudgetAgain() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire(0);
+        }
+
+        // When / Then
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, limiter.tryAcquire(20 * SECOND));
+        }
+        assertTrue(limiter.tryAcquire(20 * SECOND) > 0);
+    }
+}
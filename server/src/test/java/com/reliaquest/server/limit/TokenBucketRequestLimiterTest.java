@@ -0,0 +1,57 @@
+package com.reliaquest.server.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRequestLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void tryAcquire_FullBucket_AdmitsBurstUpToCapacity() {
+        // Given
+        RequestLimiter limiter = new TokenBucketRequestLimiter(3, Duration.ofSeconds(3), 0);
+
+        // When / Then
+        assertEquals(0, limiter.tryAcquire(0));
+        assertEquals(0, limiter.tryAcquire(0));
+        assertEquals(0, limiter.tryAcquire(0));
+        long waitNanos = limiter.tryAcquire(0);
+        assertTrue(Math.abs(waitNanos - SECOND) <= 1, "Waited " + waitNanos);
+    }
+
+    @Test
+    void tryAcquire_EmptyBucket_RefillsOneTokenPerPeriodShare() {
+        // Given
+        RequestLimiter limiter = new TokenBucketRequestLimiter(3, Duration.ofSeconds(3), 0);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(0);
+        }
+
+        // When
+        long waitNanos = limiter.tryAcquire(SECOND / 2);
+
+        // Then - admitted once the advertised wait has passed, then empty again
+        assertTrue(waitNanos > 0);
+        assertEquals(0, limiter.tryAcquire(SECOND / 2 + waitNanos));
+        assertTrue(limiter.tryAcquire(SECOND / 2 + waitNanos) > 0);
+    }
+
+    @Test
+    void tryAcquire_LongIdle_RefillCappedAtCapacity() {
+        // Given
+        RequestLimiter limiter = new TokenBucketRequestLimiter(2, Duration.ofSeconds(1), 0);
+        limiter.tryAcquire(0);
+        limiter.tryAcquire(0);
+
+        // When
+        long later = 60 * SECOND;
+
+        // Then
+        assertEquals(0, limiter.tryAcquire(later));
+        assertEquals(0, limiter.tryAcquire(later));
+        assertTrue(limiter.tryAcquire(later) > 0);
+    }
+}
@@ -0,0 +1,48 @@
+package com.reliaquest.server.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LatencyDistributionTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void logNormal_SampledQuantiles_MatchMedianAndP99() {
+        // Given
+        LatencyDistribution latency = new LatencyDistribution.LogNormal(40, 1500);
+        SplittableRandom random = new SplittableRandom(42);
+
+        // When
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = latency.sampleMillis(random);
+        }
+        Arrays.sort(samples);
+
+        // Then
+        assertEquals(40, samples[SAMPLES / 2], 2);
+        assertEquals(1500, samples[SAMPLES * 99 / 100], 75);
+    }
+
+    @Test
+    void logNormal_MedianEqualsP99_NoSpread() {
+        // Given
+        LatencyDistribution latency = new LatencyDistribution.LogNormal(100, 100);
+        SplittableRandom random = new SplittableRandom(42);
+
+        // When / Then
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(100, latency.sampleMillis(random));
+        }
+    }
+
+    @Test
+    void logNormal_P99BelowMedian_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyDistribution.LogNormal(100, 50));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyDistribution.LogNormal(0, 50));
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ChangeLogTest {
+
+    private final MockEmployee employee =
+            new MockEmployee(UUID.randomUUID(), "John Doe", 60000, 30, "Engineer", "john@company.com");
+
+    @Test
+    void constructor_CapacityBelowOne_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeLog(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ChangeLog(-1, 0));
+    }
+
+    @Test
+    void since_CapacityOne_KeepsOnlyTheLatestChange() {
+        // Given
+        ChangeLog changes = new ChangeLog(1, 10);
+
+        // When
+        changes.record(MockEmployeeChange.created(11, employee));
+        changes.record(MockEmployeeChange.deleted(12, employee));
+
+        // Then
+        assertTrue(changes.since(10).isEmpty());
+        assertEquals(List.of(MockEmployeeChange.deleted(12, employee)), changes.since(11).orElseThrow());
+        assertEquals(List.of(), changes.since(12).orElseThrow());
+        assertTrue(changes.since(13).isEmpty());
+    }
+}
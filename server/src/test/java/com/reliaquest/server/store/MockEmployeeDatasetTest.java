@@ -0,0 +1,63 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeDatasetTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void load_NoSeed_ReusesSnapshotFileInsteadOfRewritingIt() throws IOException {
+        // Given
+        Path file = directory.resolve("employees.snapshot");
+        List<MockEmployee> first = MockEmployeeDataset.load(50, null, file);
+        FileTime written = Files.getLastModifiedTime(file);
+
+        // When
+        List<MockEmployee> second = MockEmployeeDataset.load(50, null, file);
+
+        // Then
+        assertEquals(first, second);
+        assertEquals(written, Files.getLastModifiedTime(file));
+    }
+
+    @Test
+    void load_SeedOfSnapshotFile_ReadFromFile() throws IOException {
+        // Given
+        Path file = directory.resolve("employees.snapshot");
+        MockEmployeeDataset.load(50, 42L, file);
+
+        // When
+        List<MockEmployee> loaded = MockEmployeeDataset.load(50, 42L, file);
+
+        // Then
+        assertEquals(MockEmployeeGenerator.generate(50, 42), loaded);
+        assertEquals(42, MockEmployeeSnapshotCodec.read(file).tag());
+    }
+
+    @Test
+    void load_DifferentSeedOrSize_Regenerated() throws IOException {
+        // Given
+        Path file = directory.resolve("employees.snapshot");
+        MockEmployeeDataset.load(50, 42L, file);
+
+        // When
+        List<MockEmployee> otherSeed = MockEmployeeDataset.load(50, 43L, file);
+        List<MockEmployee> otherSize = MockEmployeeDataset.load(60, null, file);
+
+        // Then
+        assertEquals(MockEmployeeGenerator.generate(50, 43), otherSeed);
+        assertEquals(60, otherSize.size());
+        assertEquals(60, MockEmployeeSnapshotCodec.read(file).employees().size());
+    }
+}
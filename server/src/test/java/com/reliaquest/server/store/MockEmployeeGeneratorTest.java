@@ -0,0 +1,60 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    private static final int SIZE = MockEmployeeGenerator.CHUNK_SIZE * 2 + 5;
+
+    @Test
+    void generate_SameSeed_SameDataset() {
+        // When
+        List<MockEmployee> first = MockEmployeeGenerator.generate(SIZE, 42);
+        List<MockEmployee> second = MockEmployeeGenerator.generate(SIZE, 42);
+
+        // Then
+        assertEquals(SIZE, first.size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void generate_SameSeedOnOneThread_SameDataset() throws Exception {
+        // Given
+        List<MockEmployee> parallel = MockEmployeeGenerator.generate(SIZE, 42);
+
+        // When - chunks are generated one after another on a single worker
+        ForkJoinPool pool = new ForkJoinPool(1);
+        List<MockEmployee> sequential;
+        try {
+            sequential = pool.submit(() -> MockEmployeeGenerator.generate(SIZE, 42)).get();
+        } finally {
+            pool.shutdown();
+        }
+
+        // Then
+        assertEquals(parallel, sequential);
+    }
+
+    @Test
+    void generate_DifferentSeeds_DifferentDatasets() {
+        assertNotEquals(MockEmployeeGenerator.generate(100, 1), MockEmployeeGenerator.generate(100, 2));
+    }
+
+    @Test
+    void generate_UniqueVersion4Ids() {
+        // When
+        List<MockEmployee> employees = MockEmployeeGenerator.generate(SIZE, 42);
+
+        // Then
+        Set<Object> ids = employees.stream().map(MockEmployee::getId).collect(Collectors.toSet());
+        assertEquals(SIZE, ids.size());
+        assertTrue(employees.stream().allMatch(employee -> employee.getId().version() == 4));
+    }
+}
@@ -0,0 +1,211 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeJournalTest {
+
+    private static final Supplier<List<MockEmployee>> NOT_NEEDED = () -> {
+        throw new AssertionError("Initial employees requested although the journal has a snapshot");
+    };
+
+    @TempDir
+    private Path directory;
+
+    private MockEmployee john;
+    private MockEmployee jane;
+    private MockEmployee bob;
+
+    @BeforeEach
+    void setUp() {
+        john = employee("John Doe");
+        jane = employee("Jane Smith");
+        bob = employee("Bob Johnson");
+    }
+
+    @Test
+    void recover_AfterCleanShutdown_ReplaysCreatesAndDeletes() throws IOException {
+        // Given
+        try (MockEmployeeJournal journal = open(100)) {
+            MockEmployeeStore store = attach(journal, journal.recover(() -> List.of(john, jane)));
+            store.add(bob);
+            store.removeFirstByName("Jane Smith");
+        }
+
+        // When
+        List<MockEmployee> recovered;
+        try (MockEmployeeJournal journal = open(100)) {
+            recovered = journal.recover(NOT_NEEDED);
+        }
+
+        // Then
+        assertEquals(List.of(john, bob), recovered);
+    }
+
+    @Test
+    void recover_DeleteOfEmployeeOnlyInSnapshot_Replayed() throws IOException {
+        // Given - John was never journaled as created, only as deleted
+        try (MockEmployeeJournal journal = open(100)) {
+            MockEmployeeStore store = attach(journal, journal.recover(() -> List.of(john, jane)));
+            store.removeFirstByName("john doe");
+        }
+
+        // When
+        List<MockEmployee> recovered;
+        try (MockEmployeeJournal journal = open(100)) {
+            recovered = journal.recover(NOT_NEEDED);
+        }
+
+        // Then
+        assertEquals(List.of(jane), recovered);
+    }
+
+    @Test
+    void recover_TornTail_TruncatedAndAppendable() throws IOException {
+        // Given - a crash in the middle of writing a record
+        try (MockEmployeeJournal journal = open(100)) {
+            attach(journal, journal.recover(() -> List.of(john))).add(jane);
+        }
+        Path segment = directory.resolve("journal-0.log");
+        long intactSize = Files.size(segment);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(segment, StandardOpenOption.APPEND))) {
+            out.writeInt(64);
+            out.writeInt(0x1234);
+            out.write(new byte[] {1, 2, 3});
+        }
+
+        // When
+        List<MockEmployee> recovered;
+        try (MockEmployeeJournal journal = open(100)) {
+            recovered = journal.recover(NOT_NEEDED);
+            assertEquals(intactSize, Files.size(segment));
+            attach(journal, recovered).add(bob);
+        }
+
+        // Then
+        assertEquals(List.of(john, jane), recovered);
+        try (MockEmployeeJournal journal = open(100)) {
+            assertEquals(List.of(john, jane, bob), journal.recover(NOT_NEEDED));
+        }
+    }
+
+    @Test
+    void recover_CorruptLastRecord_DroppedByChecksum() throws IOException {
+        // Given
+        try (MockEmployeeJournal journal = open(100)) {
+            MockEmployeeStore store = attach(journal, journal.recover(() -> List.of(john)));
+            store.add(jane);
+            store.add(bob);
+        }
+        Path segment = directory.resolve("journal-0.log");
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 1] ^= 0x5A;
+        Files.write(segment, bytes);
+
+        // When
+        List<MockEmployee> recovered;
+        try (MockEmployeeJournal journal = open(100)) {
+            recovered = journal.recover(NOT_NEEDED);
+        }
+
+        // Then
+        assertEquals(List.of(john, jane), recovered);
+        assertTrue(Files.size(segment) < bytes.length);
+    }
+
+    @Test
+    void recover_AfterCompaction_ReplaysSnapshotAndNewSegment() throws Exception {
+        // Given - three writes fill the segment and trigger a compaction
+        try (MockEmployeeJournal journal = open(3)) {
+            MockEmployeeStore store = attach(journal, journal.recover(() -> List.of(john)));
+            store.add(jane);
+            store.add(bob);
+            store.removeFirstByName("John Doe");
+            awaitDeleted(directory.resolve("journal-0.log"));
+            store.add(john);
+        }
+
+        // When
+        List<MockEmployee> recovered;
+        try (MockEmployeeJournal journal = open(3)) {
+            recovered = journal.recover(NOT_NEEDED);
+        }
+
+        // Then
+        MockEmployeeSnapshotCodec.Snapshot snapshot =
+                MockEmployeeSnapshotCodec.read(directory.resolve(MockEmployeeJournal.SNAPSHOT_FILE));
+        assertEquals(1, snapshot.tag());
+        assertEquals(List.of(jane, bob), snapshot.employees());
+        assertEquals(List.of(jane, bob, john), recovered);
+    }
+
+    @Test
+    void compaction_OldSegmentDeletedOnlyAfterSnapshotForced() throws Exception {
+        // Given - records each sync along with whether the segment the snapshot replaces was still there
+        Path firstSegment = directory.resolve("journal-0.log");
+        List<String> syncs = new CopyOnWriteArrayList<>();
+        MockEmployeeSnapshotCodec.Fsync recording = new MockEmployeeSnapshotCodec.Fsync() {
+            @Override
+            public void file(FileChannel channel) throws IOException {
+                MockEmployeeSnapshotCodec.Fsync.DISK.file(channel);
+                syncs.add("file, segment " + (Files.exists(firstSegment) ? "kept" : "deleted"));
+            }
+
+            @Override
+            public void directory(Path path) throws IOException {
+                MockEmployeeSnapshotCodec.Fsync.DISK.directory(path);
+                syncs.add("directory, segment " + (Files.exists(firstSegment) ? "kept" : "deleted"));
+            }
+        };
+
+        // When - three writes fill the segment and trigger a compaction
+        try (MockEmployeeJournal journal = MockEmployeeJournal.open(directory, Duration.ofMillis(1), 3, recording)) {
+            MockEmployeeStore store = attach(journal, journal.recover(() -> List.of(john)));
+            syncs.clear();
+            store.add(jane);
+            store.add(bob);
+            store.removeFirstByName("John Doe");
+            awaitDeleted(firstSegment);
+        }
+
+        // Then - the new segment's name, then the snapshot's contents and name, all before the old segment went
+        assertEquals(List.of("directory, segment kept", "file, segment kept", "directory, segment kept"), syncs);
+    }
+
+    private MockEmployeeJournal open(int compactionThreshold) throws IOException {
+        return MockEmployeeJournal.open(directory, Duration.ofMillis(1), compactionThreshold);
+    }
+
+    private static MockEmployeeStore attach(MockEmployeeJournal journal, List<MockEmployee> recovered) {
+        MockEmployeeStore store = new MockEmployeeStore(recovered, journal);
+        journal.attach(store);
+        return store;
+    }
+
+    private static void awaitDeleted(Path file) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (Files.exists(file)) {
+            assertTrue(System.nanoTime() < deadline, "Compaction did not finish");
+            Thread.sleep(5);
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 60000, 30, "Engineer", "employee@company.com");
+    }
+}
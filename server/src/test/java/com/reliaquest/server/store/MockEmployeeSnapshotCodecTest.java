@@ -0,0 +1,62 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeSnapshotCodecTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void writeThenRead_SameEmployeesAndTag() throws IOException {
+        // Given - shared and missing titles, missing strings and non-ASCII names
+        MockEmployeeSnapshotCodec.Snapshot snapshot = new MockEmployeeSnapshotCodec.Snapshot(
+                -42L,
+                List.of(
+                        new MockEmployee(UUID.randomUUID(), "John Doe", 50000, 30, "Engineer", "john@company.com"),
+                        new MockEmployee(UUID.randomUUID(), "Zoë Ångström", 75000, 16, "Engineer", null),
+                        new MockEmployee(UUID.randomUUID(), null, 500000, 70, null, "anon@company.com")));
+        Path file = directory.resolve("employees.snapshot");
+
+        // When
+        MockEmployeeSnapshotCodec.write(file, snapshot);
+        MockEmployeeSnapshotCodec.Snapshot read = MockEmployeeSnapshotCodec.read(file);
+
+        // Then
+        assertEquals(snapshot, read);
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    void read_GeneratedDataset_RoundTrips() throws IOException {
+        // Given
+        List<MockEmployee> employees = MockEmployeeGenerator.generate(MockEmployeeGenerator.CHUNK_SIZE + 1, 7);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // When
+        MockEmployeeSnapshotCodec.write(bytes, new MockEmployeeSnapshotCodec.Snapshot(7, employees));
+        MockEmployeeSnapshotCodec.Snapshot read = MockEmployeeSnapshotCodec.read(ByteBuffer.wrap(bytes.toByteArray()));
+
+        // Then
+        assertEquals(7, read.tag());
+        assertEquals(employees, read.employees());
+    }
+
+    @Test
+    void read_NotASnapshot_Rejected() {
+        assertThrows(IOException.class, () -> MockEmployeeSnapshotCodec.read(ByteBuffer.wrap(new byte[16])));
+    }
+}
@@ -0,0 +1,191 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChangeFeed;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private MockEmployee john;
+    private MockEmployee jane;
+    private MockEmployeeStore store;
+
+    @BeforeEach
+    void setUp() {
+        john = employee("John Doe");
+        jane = employee("Jane Smith");
+        store = new MockEmployeeStore(List.of(john, jane), MutationJournal.NONE);
+    }
+
+    @Test
+    void findById_KnownAndUnknownIds() {
+        assertEquals(Optional.of(jane), store.findById(jane.getId()));
+        assertTrue(store.findById(UUID.randomUUID()).isEmpty());
+        assertEquals(jane, store.findVersionedById(jane.getId()).orElseThrow().value());
+    }
+
+    @Test
+    void removeFirstByName_IgnoresCase() {
+        // When
+        Optional<MockEmployee> removed = store.removeFirstByName("jOHN dOE");
+
+        // Then
+        assertEquals(Optional.of(john), removed);
+        assertEquals(List.of(jane), store.snapshot());
+        assertTrue(store.findById(john.getId()).isEmpty());
+        assertTrue(store.removeFirstByName("John Doe").isEmpty());
+    }
+
+    @Test
+    void removeFirstByName_DuplicateNames_RemovesOldestFirst() {
+        // Given
+        MockEmployee secondJohn = employee("john doe");
+        MockEmployee thirdJohn = employee("JOHN DOE");
+        store.add(secondJohn);
+        store.add(thirdJohn);
+
+        // When
+        Optional<MockEmployee> first = store.removeFirstByName("John Doe");
+        Optional<MockEmployee> second = store.removeFirstByName("John Doe");
+
+        // Then
+        assertEquals(Optional.of(john), first);
+        assertEquals(Optional.of(secondJohn), second);
+        assertEquals(List.of(jane, thirdJohn), store.snapshot());
+    }
+
+    @Test
+    void removeFirstByName_ReaddedEmployee_NowNewest() {
+        // Given - John is deleted and created again, so he is younger than the other John
+        MockEmployee otherJohn = employee("John Doe");
+        store.removeFirstByName("John Doe");
+        store.add(otherJohn);
+        store.add(john);
+
+        // When
+        Optional<MockEmployee> removed = store.removeFirstByName("John Doe");
+
+        // Then
+        assertEquals(Optional.of(otherJohn), removed);
+        assertEquals(List.of(jane, john), store.snapshot());
+    }
+
+    @Test
+    void versionedSnapshot_ReusedUntilNextWrite() {
+        // Given
+        var before = store.versionedSnapshot();
+
+        // When
+        var unchanged = store.versionedSnapshot();
+        store.add(employee("Bob Johnson"));
+        var after = store.versionedSnapshot();
+
+        // Then
+        assertSame(before, unchanged);
+        assertTrue(after.version() > before.version());
+        assertEquals(3, after.value().size());
+        assertEquals(2, before.value().size());
+    }
+
+    @Test
+    void changesSince_ChangesOverwrittenByLaterOnes_Empty() {
+        // Given
+        store = new MockEmployeeStore(List.of(john), MutationJournal.NONE, 2);
+        long start = store.versionedSnapshot().version();
+        MockEmployee bob = employee("Bob Johnson");
+        store.add(bob);
+        store.removeFirstByName("John Doe");
+
+        // When
+        Optional<MockEmployeeChangeFeed> retained = store.changesSince(start);
+        store.add(employee("Ann Lee"));
+        Optional<MockEmployeeChangeFeed> overwritten = store.changesSince(start);
+
+        // Then
+        assertEquals(
+                List.of(MockEmployeeChange.Type.CREATED, MockEmployeeChange.Type.DELETED),
+                retained.orElseThrow().changes().stream()
+                        .map(MockEmployeeChange::type)
+                        .toList());
+        assertTrue(overwritten.isEmpty());
+    }
+
+    @Test
+    void constructor_NoChangeCapacity_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MockEmployeeStore(List.of(), MutationJournal.NONE, 0));
+    }
+
+    @Test
+    void concurrentCreatesAndDeletes_IndexesAndChangeFeedAgree() throws Exception {
+        // Given - writers share a handful of names, so deletes race with creates of the same name
+        int writers = 8;
+        int writesPerWriter = 500;
+        store = new MockEmployeeStore(List.of(john, jane), MutationJournal.NONE, writers * writesPerWriter * 2);
+        long start = store.versionedSnapshot().version();
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch ready = new CountDownLatch(writers);
+        List<Future<Integer>> removals = new ArrayList<>();
+
+        // When
+        for (int writer = 0; writer < writers; writer++) {
+            int offset = writer;
+            removals.add(executor.submit(() -> {
+                ready.countDown();
+                ready.await();
+                int removed = 0;
+                for (int i = 0; i < writesPerWriter; i++) {
+                    String name = "Worker " + (offset + i) % 5;
+                    store.add(employee(name));
+                    if (i % 2 == 1 && store.removeFirstByName(name).isPresent()) {
+                        removed++;
+                    }
+                }
+                return removed;
+            }));
+        }
+        int removed = 0;
+        for (Future<Integer> removal : removals) {
+            removed += removal.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        List<MockEmployee> snapshot = store.snapshot();
+        assertEquals(2 + writers * writesPerWriter - removed, store.size());
+        assertEquals(store.size(), snapshot.size());
+        snapshot.forEach(employee -> assertEquals(Optional.of(employee), store.findById(employee.getId())));
+
+        List<MockEmployeeChange> changes = store.changesSince(start).orElseThrow().changes();
+        assertEquals(writers * writesPerWriter + removed, changes.size());
+        Set<UUID> live = new HashSet<>(List.of(john.getId(), jane.getId()));
+        for (int i = 0; i < changes.size(); i++) {
+            MockEmployeeChange change = changes.get(i);
+            assertEquals(start + i + 1, change.version());
+            if (change.type() == MockEmployeeChange.Type.CREATED) {
+                assertTrue(live.add(change.id()));
+            } else {
+                assertTrue(live.remove(change.id()));
+            }
+        }
+        assertEquals(live, new HashSet<>(snapshot.stream().map(MockEmployee::getId).toList()));
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 60000, 30, "Engineer", "employee@company.com");
+    }
+}
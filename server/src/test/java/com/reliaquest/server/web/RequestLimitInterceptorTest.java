@@ -0,0 +1,97 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.limit.TokenBucketRequestLimiter;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestLimitInterceptorTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void preHandle_OverBudget_RetryAfterRoundedUpToWholeSeconds() {
+        // Given
+        RequestLimitInterceptor interceptor = interceptor(Duration.ofMillis(2500), null);
+        assertTrue(interceptor.preHandle(request(null), new MockHttpServletResponse(), null));
+
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean allowed = interceptor.preHandle(request(null), response, null);
+
+        // Then
+        assertFalse(allowed);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void preHandle_AlmostRefilled_RetryAfterAtLeastOneSecond() {
+        // Given
+        RequestLimitInterceptor interceptor = interceptor(Duration.ofSeconds(1), null);
+        interceptor.preHandle(request(null), new MockHttpServletResponse(), null);
+        clock.set(Duration.ofMillis(999).toNanos());
+
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request(null), response, null);
+
+        // Then
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void preHandle_PerClient_BudgetsIndependent() {
+        // Given
+        RequestLimitInterceptor interceptor = interceptor(Duration.ofHours(1), CLIENT_HEADER);
+        assertTrue(interceptor.preHandle(request("a"), new MockHttpServletResponse(), null));
+
+        // When / Then
+        assertFalse(interceptor.preHandle(request("a"), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(request("b"), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void preHandle_TooManyClients_IdlestDroppedActiveKeepBudget() {
+        // Given - the map fills up with one request per client, the active client last and over budget
+        RequestLimitInterceptor interceptor = interceptor(Duration.ofHours(1), CLIENT_HEADER);
+        for (int i = 0; i < RequestLimitInterceptor.MAX_CLIENTS - 1; i++) {
+            clock.incrementAndGet();
+            interceptor.preHandle(request("idle-" + i), new MockHttpServletResponse(), null);
+        }
+        clock.incrementAndGet();
+        assertTrue(interceptor.preHandle(request("active"), new MockHttpServletResponse(), null));
+
+        // When
+        clock.incrementAndGet();
+        assertTrue(interceptor.preHandle(request("newcomer"), new MockHttpServletResponse(), null));
+
+        // Then
+        assertFalse(interceptor.preHandle(request("active"), new MockHttpServletResponse(), null));
+        assertFalse(interceptor.preHandle(request("newcomer"), new MockHttpServletResponse(), null));
+        assertFalse(interceptor.preHandle(
+                request("idle-" + RequestLimitInterceptor.EVICTED_CLIENTS), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(request("idle-0"), new MockHttpServletResponse(), null));
+    }
+
+    private RequestLimitInterceptor interceptor(Duration refillPeriod, String clientHeader) {
+        return new RequestLimitInterceptor(
+                now -> new TokenBucketRequestLimiter(1, refillPeriod, now), clientHeader, clock::get);
+    }
+
+    private static MockHttpServletRequest request(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        if (client != null) {
+            request.addHeader(CLIENT_HEADER, client);
+        }
+        return request;
+    }
+}